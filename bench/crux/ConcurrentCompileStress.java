@@ -0,0 +1,143 @@
+package crux;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import ast.Command;
+import mips.CodeGen;
+import types.TypeChecker;
+
+// Compiles the given sources hundreds of times at once in one JVM, half of
+// the compiles phase after phase and half through the Pipeline, and checks
+// every error report and assembly listing against a compile of the same
+// source run alone. Compiles share nothing but the built-in functions.
+// Usage: ConcurrentCompileStress [-compiles n] [-threads n] source.crx...
+public class ConcurrentCompileStress
+{
+	public static void main(String[] args) throws Exception
+	{
+		int compiles = 400;
+		int threads = 32;
+		final List<SourceBuffer> sources = new ArrayList<SourceBuffer>();
+
+		for (int i = 0; i < args.length; i++)
+		{
+			if (args[i].equals("-compiles"))
+				compiles = Integer.parseInt(args[++i]);
+			else if (args[i].equals("-threads"))
+				threads = Integer.parseInt(args[++i]);
+			else
+				sources.add(SourceBuffer.map(new File(args[i])));
+		}
+
+		// the code generator reports what it does on System.out
+		PrintStream out = System.out;
+		System.setOut(new PrintStream(new OutputStream() {
+			public void write(int b)
+			{
+			}
+		}));
+
+		final List<String> expected = new ArrayList<String>();
+		for (SourceBuffer source : sources)
+			expected.add(compile(source, false));
+
+		final CountDownLatch start = new CountDownLatch(1);
+		List<Callable<Boolean>> tasks = new ArrayList<Callable<Boolean>>();
+		for (int i = 0; i < compiles; i++)
+		{
+			final int file = i % sources.size();
+			final boolean pipelined = i % 2 == 1;
+			tasks.add(new Callable<Boolean>() {
+				public Boolean call() throws Exception
+				{
+					start.await();
+					return compile(sources.get(file), pipelined).equals(expected.get(file));
+				}
+			});
+		}
+
+		ExecutorService pool = Executors.newFixedThreadPool(threads);
+		int failed = 0;
+		try
+		{
+			List<Future<Boolean>> results = new ArrayList<Future<Boolean>>();
+			for (Callable<Boolean> task : tasks)
+				results.add(pool.submit(task));
+			long begin = System.nanoTime();
+			start.countDown();
+			for (Future<Boolean> result : results)
+				if (!result.get())
+					failed++;
+			out.printf("%d compiles of %d sources on %d threads: %d failed, %.0f ms%n",
+					compiles, sources.size(), threads, failed,
+					(System.nanoTime() - begin) / 1e6);
+		}
+		finally
+		{
+			pool.shutdown();
+		}
+		if (failed > 0)
+			System.exit(1);
+	}
+
+	// the error report of the first phase that fails, the exception a phase
+	// gave up with, or the assembly
+	private static String compile(SourceBuffer source, boolean pipelined) throws IOException
+	{
+		try
+		{
+			return tryCompile(source, pipelined);
+		}
+		catch (RuntimeException e)
+		{
+			return "exception\n" + e;
+		}
+	}
+
+	private static String tryCompile(SourceBuffer source, boolean pipelined) throws IOException
+	{
+		Parser parser = new Parser(TokenBuffer.lex(source));
+		TypeChecker typeChecker;
+		CodeGen codeGen;
+		if (pipelined)
+		{
+			Pipeline pipeline = new Pipeline(parser);
+			pipeline.run();
+			typeChecker = pipeline.typeChecker();
+			codeGen = pipeline.codeGen();
+		}
+		else
+		{
+			Command tree = parser.parse();
+			if (parser.hasError())
+				return "parse\n" + parser.errorReport();
+			typeChecker = new TypeChecker();
+			typeChecker.check(tree);
+			if (typeChecker.hasError())
+				return "type\n" + typeChecker.errorReport();
+			codeGen = new CodeGen(typeChecker);
+			codeGen.generate(tree);
+		}
+
+		if (parser.hasError())
+			return "parse\n" + parser.errorReport();
+		if (typeChecker.hasError())
+			return "type\n" + typeChecker.errorReport();
+		if (codeGen.hasError())
+			return "codegen\n" + codeGen.errorReport();
+		ByteArrayOutputStream assembly = new ByteArrayOutputStream();
+		codeGen.getProgram().print(new PrintStream(assembly));
+		return assembly.toString();
+	}
+}
@@ -0,0 +1,214 @@
+package crux;
+
+import java.io.BufferedWriter;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Random;
+
+// Writes synthetic, syntactically valid Crux programs for the benchmarks.
+// The same settings and seed always give the same program, so runs of
+// different lexer versions see exactly the same input.
+// Usage: CruxGenerator <out.crx> <size in bytes> [identifierDensity
+//        commentRatio floatRatio [seed]]
+public class CruxGenerator
+{
+	private int size = 1024 * 1024;
+	private double identifierDensity = 0.6;	// operands that are identifiers
+	private double commentRatio = 0.1;	// statements followed by a comment line
+	private double floatRatio = 0.3;	// statements on floats instead of ints
+	private long seed = 42;
+
+	private Random random;
+	private StringBuilder out;
+	private int functionCount;
+
+	public CruxGenerator size(int bytes)
+	{
+		this.size = bytes;
+		return this;
+	}
+
+	public CruxGenerator identifierDensity(double ratio)
+	{
+		this.identifierDensity = ratio;
+		return this;
+	}
+
+	public CruxGenerator commentRatio(double ratio)
+	{
+		this.commentRatio = ratio;
+		return this;
+	}
+
+	public CruxGenerator floatRatio(double ratio)
+	{
+		this.floatRatio = ratio;
+		return this;
+	}
+
+	public CruxGenerator seed(long seed)
+	{
+		this.seed = seed;
+		return this;
+	}
+
+	public String generate()
+	{
+		random = new Random(seed);
+		out = new StringBuilder(size + 1024);
+		functionCount = 0;
+
+		out.append("// generated: size ").append(size)
+			.append(", identifiers ").append(identifierDensity)
+			.append(", comments ").append(commentRatio)
+			.append(", floats ").append(floatRatio)
+			.append(", seed ").append(seed).append('\n');
+		out.append("var total : int;\n");
+		out.append("array table : int[64];\n\n");
+
+		while (out.length() < size)
+			function();
+
+		out.append("func main() : void {\n");
+		out.append("  ::println();\n");
+		out.append("}\n");
+		return out.toString();
+	}
+
+	public SourceBuffer generateSource()
+	{
+		return SourceBuffer.wrap(generate());
+	}
+
+	private void function()
+	{
+		int f = functionCount++;
+		out.append("func compute_").append(f).append("(count : int, weight : float) : int {\n");
+		out.append("  var value_").append(f).append(" : int;\n");
+		out.append("  var ratio_").append(f).append(" : float;\n");
+
+		int statements = 4 + random.nextInt(12);
+		for (int i = 0; i < statements; i++)
+			statement(f, "  ", 2);
+
+		out.append("  return value_").append(f).append(";\n");
+		out.append("}\n\n");
+	}
+
+	private void statement(int f, String indent, int depth)
+	{
+		boolean floats = random.nextDouble() < floatRatio;
+		switch (random.nextInt(depth > 0 ? 5 : 3))
+		{
+		case 0:
+		case 1:
+			out.append(indent).append(floats ? "let ratio_" : "let value_").append(f)
+				.append(" = ");
+			expression(f, 3, floats);
+			out.append(";\n");
+			break;
+		case 2:
+			out.append(indent).append(floats ? "::printFloat(" : "::printInt(");
+			expression(f, 2, floats);
+			out.append(");\n");
+			break;
+		case 3:
+			out.append(indent).append("if ");
+			comparison(f);
+			out.append(" {\n");
+			statement(f, indent + "  ", depth - 1);
+			out.append(indent).append("} else {\n");
+			statement(f, indent + "  ", depth - 1);
+			out.append(indent).append("}\n");
+			break;
+		default:
+			out.append(indent).append("while ");
+			comparison(f);
+			out.append(" {\n");
+			statement(f, indent + "  ", depth - 1);
+			out.append(indent).append("}\n");
+			break;
+		}
+
+		if (random.nextDouble() < commentRatio)
+			out.append(indent).append("// ").append(COMMENTS[random.nextInt(COMMENTS.length)])
+				.append('\n');
+	}
+
+	private static final String[] COMMENTS = {
+		"keep the running total in range",
+		"TODO: hoist this out of the loop",
+		"weight is applied after scaling",
+		"see compute_0 for the reference version",
+	};
+
+	private void comparison(int f)
+	{
+		out.append("value_").append(f).append(random.nextBoolean() ? " < " : " >= ");
+		expression(f, 1, false);
+	}
+
+	private void expression(int f, int terms, boolean floats)
+	{
+		for (int i = 0; i < terms; i++)
+		{
+			if (i > 0)
+				out.append(' ').append("+-*/".charAt(random.nextInt(4))).append(' ');
+			if (floats)
+				floatOperand(f);
+			else
+				intOperand(f);
+		}
+	}
+
+	private void intOperand(int f)
+	{
+		if (random.nextDouble() < identifierDensity)
+		{
+			switch (random.nextInt(3))
+			{
+			case 0:
+				out.append("value_").append(f);
+				break;
+			case 1:
+				out.append("count");
+				break;
+			default:
+				out.append("table[").append(random.nextInt(64)).append(']');
+				break;
+			}
+		}
+		else
+			out.append(random.nextInt(100000));
+	}
+
+	private void floatOperand(int f)
+	{
+		if (random.nextDouble() < identifierDensity)
+			out.append(random.nextBoolean() ? "weight" : "ratio_" + f);
+		else
+			out.append(random.nextInt(1000)).append('.').append(random.nextInt(1000));
+	}
+
+	public static void main(String[] args) throws IOException
+	{
+		CruxGenerator generator = new CruxGenerator().size(Integer.parseInt(args[1]));
+		if (args.length > 4)
+			generator.identifierDensity(Double.parseDouble(args[2]))
+				.commentRatio(Double.parseDouble(args[3]))
+				.floatRatio(Double.parseDouble(args[4]));
+		if (args.length > 5)
+			generator.seed(Long.parseLong(args[5]));
+
+		Writer writer = new BufferedWriter(new FileWriter(args[0]));
+		try
+		{
+			writer.write(generator.generate());
+		}
+		finally
+		{
+			writer.close();
+		}
+	}
+}
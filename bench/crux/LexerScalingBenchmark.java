@@ -0,0 +1,57 @@
+package crux;
+
+import java.io.File;
+import java.io.IOException;
+
+// Measures how ParallelLexer scales with the number of threads. A speedup
+// is only printed for thread counts the machine has cores for; beyond that
+// the threads share cores and the row only shows what splitting costs.
+// Usage: LexerScalingBenchmark <source.crx> [rounds]
+public class LexerScalingBenchmark
+{
+	private static final int[] THREAD_COUNTS = { 1, 2, 4, 8 };
+	private static final int WARMUP_ROUNDS = 3;
+
+	public static void main(String[] args) throws IOException
+	{
+		File file = new File(args[0]);
+		int rounds = args.length > 1 ? Integer.parseInt(args[1]) : 5;
+
+		SourceBuffer source = SourceBuffer.map(file);
+		double megabytes = source.length() / (1024.0 * 1024.0);
+		int expected = TokenBuffer.lex(source).size();
+
+		int cores = Runtime.getRuntime().availableProcessors();
+		System.out.printf("%s: %.1f MB, %d tokens, %d cores%n", file, megabytes,
+				expected, cores);
+
+		double baseline = 0;
+		for (int threads : THREAD_COUNTS)
+		{
+			for (int i = 0; i < WARMUP_ROUNDS; i++)
+				ParallelLexer.lex(source, threads);
+
+			long best = Long.MAX_VALUE;
+			for (int i = 0; i < rounds; i++)
+			{
+				long start = System.nanoTime();
+				TokenBuffer tokens = ParallelLexer.lex(source, threads);
+				best = Math.min(best, System.nanoTime() - start);
+
+				if (tokens.size() != expected)
+					throw new IllegalStateException(threads + " threads produced "
+							+ tokens.size() + " tokens, expected " + expected);
+			}
+
+			double seconds = best / 1e9;
+			if (threads == 1)
+				baseline = seconds;
+			if (threads <= cores)
+				System.out.printf("%d threads: %8.1f ms %8.1f MB/s  speedup %.2f%n",
+						threads, seconds * 1e3, megabytes / seconds, baseline / seconds);
+			else
+				System.out.printf("%d threads: %8.1f ms %8.1f MB/s  (%d cores, no speedup)%n",
+						threads, seconds * 1e3, megabytes / seconds, cores);
+		}
+	}
+}
@@ -0,0 +1,81 @@
+package crux;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import ast.Command;
+import mips.CodeGen;
+import types.FuncType;
+import types.TypeChecker;
+
+// Compiles each library source to a Module, writes it to a module interface
+// file, reads it back and checks that every symbol, kind, type, signature
+// and line of assembly survived the trip.
+// Usage: ModuleRoundTrip library.crx...
+public class ModuleRoundTrip
+{
+	public static void main(String[] args) throws IOException
+	{
+		int failed = 0;
+		for (String filename : args)
+		{
+			File source = new File(filename);
+			Module module = compile(source);
+			File file = File.createTempFile("roundtrip", Module.SUFFIX);
+			try
+			{
+				module.write(file);
+				Module read = Module.read(file);
+				boolean same = describe(module).equals(describe(read));
+				System.out.printf("%s: %d symbols, %d lines of assembly, %s%n", filename,
+						module.symbols().size(), module.data().size() + module.code().size(),
+						same ? "same" : "DIFFERENT");
+				if (!same)
+					failed++;
+			}
+			finally
+			{
+				file.delete();
+			}
+		}
+		if (failed > 0)
+			System.exit(1);
+	}
+
+	private static Module compile(File source) throws IOException
+	{
+		Parser parser = new Parser(TokenBuffer.lex(SourceBuffer.map(source)));
+		Command tree = parser.parse();
+		if (parser.hasError())
+			throw new IllegalStateException(parser.errorReport());
+		TypeChecker typeChecker = new TypeChecker();
+		typeChecker.check(tree);
+		if (typeChecker.hasError())
+			throw new IllegalStateException(typeChecker.errorReport());
+		CodeGen codeGen = new CodeGen(typeChecker);
+		String name = Module.moduleName(source);
+		codeGen.getProgram().setModule(name);
+		codeGen.generate(tree);
+		return Module.of(name, new ArrayList<Module>(), parser.declaredGlobals(),
+				typeChecker, codeGen.getProgram());
+	}
+
+	// everything an importer sees of a module, as text
+	private static List<String> describe(Module module)
+	{
+		List<String> lines = new ArrayList<String>();
+		lines.add(module.name() + " requires " + module.requires());
+		for (int i = 0; i < module.symbols().size(); i++)
+		{
+			Symbol symbol = module.symbols().get(i);
+			FuncType signature = module.signature(i);
+			lines.add(symbol.name() + " " + symbol.kind() + " " + symbol.type()
+					+ " " + signature);
+		}
+		lines.addAll(module.data());
+		lines.addAll(module.code());
+		return lines;
+	}
+}
@@ -0,0 +1,161 @@
+package crux;
+
+import java.io.IOException;
+
+import ast.Command;
+import ast.DeclarationList;
+import ast.Expression;
+import ast.FunctionDefinition;
+import ast.LogicalNot;
+import ast.Statement;
+import ast.StatementList;
+import ast.WhileLoop;
+
+// Parses programs nested up to 100k levels deep (blocks, parentheses, "not"
+// chains and array indexes) on a thread with a small stack, with the
+// default parser (which falls back to the table-driven one) and the
+// table-driven parser. Nesting must only be bounded by the heap.
+// Usage: NestingStress [maxDepth]
+public class NestingStress
+{
+	// half the usual default, 100k levels of any per-level recursion overflow it
+	private static final long STACK_SIZE = 512 * 1024;
+
+	private static final String[] SHAPES = { "while", "if", "paren", "not", "index" };
+
+	public static void main(String[] args) throws Exception
+	{
+		final int maxDepth = args.length > 0 ? Integer.parseInt(args[0]) : 100000;
+		final boolean[] failed = { false };
+
+		Thread stress = new Thread(null, new Runnable() {
+			public void run()
+			{
+				try
+				{
+					for (int depth = 10; depth <= maxDepth; depth *= 10)
+						for (String shape : SHAPES)
+							for (boolean tableDriven : new boolean[] { false, true })
+								failed[0] |= !check(shape, depth, tableDriven);
+				}
+				catch (IOException e)
+				{
+					throw new RuntimeException(e);
+				}
+			}
+		}, "nesting-stress", STACK_SIZE);
+
+		stress.start();
+		stress.join();
+		if (failed[0])
+			System.exit(1);
+	}
+
+	private static boolean check(String shape, int depth, boolean tableDriven)
+			throws IOException
+	{
+		TokenBuffer tokens = TokenBuffer.lex(SourceBuffer.wrap(program(shape, depth)));
+		String result;
+		try
+		{
+			Parser parser = new Parser(tokens, tableDriven);
+			Command tree = parser.parse();
+			if (parser.hasError())
+				result = "FAIL " + parser.errorReport();
+			else if (!hasDepth(shape, tree, depth))
+				result = "FAIL wrong tree";
+			else
+				result = "ok";
+		}
+		catch (StackOverflowError e)
+		{
+			result = "FAIL stack overflow";
+		}
+
+		System.out.printf("%-6s %7d %-10s %s%n", shape, depth,
+				tableDriven ? "table" : "default", result);
+		return result.equals("ok");
+	}
+
+	private static String program(String shape, int depth)
+	{
+		StringBuilder out = new StringBuilder();
+		out.append("array a : int[1];\n");
+		out.append("func main() : void {\n");
+		out.append("var x : int;\n");
+		out.append("var b : bool;\n");
+
+		if (shape.equals("while") || shape.equals("if"))
+		{
+			for (int i = 0; i < depth; i++)
+				out.append(shape).append(" true {\n");
+			out.append("let x = 1;\n");
+			for (int i = 0; i < depth; i++)
+				out.append("}\n");
+		}
+		else if (shape.equals("paren"))
+		{
+			out.append("let x = ");
+			repeat(out, "(", depth).append("1");
+			repeat(out, ")", depth).append(";\n");
+		}
+		else if (shape.equals("not"))
+		{
+			out.append("let b = ");
+			repeat(out, "not ", depth).append("true;\n");
+		}
+		else
+		{
+			out.append("let x = ");
+			repeat(out, "a[", depth).append("0");
+			repeat(out, "]", depth).append(";\n");
+		}
+
+		out.append("}\n");
+		return out.toString();
+	}
+
+	private static StringBuilder repeat(StringBuilder out, String text, int count)
+	{
+		for (int i = 0; i < count; i++)
+			out.append(text);
+		return out;
+	}
+
+	// follow while and not chains down without recursion; the other shapes
+	// only have to parse
+	private static boolean hasDepth(String shape, Command tree, int depth)
+	{
+		FunctionDefinition main = null;
+		for (ast.Declaration declaration : (DeclarationList) tree)
+			if (declaration instanceof FunctionDefinition)
+				main = (FunctionDefinition) declaration;
+
+		Statement last = null;
+		for (Statement statement : main.body())
+			last = statement;
+
+		int levels = 0;
+		if (shape.equals("while"))
+		{
+			while (last instanceof WhileLoop)
+			{
+				levels++;
+				StatementList body = ((WhileLoop) last).body();
+				last = body.iterator().next();
+			}
+			return levels == depth;
+		}
+		if (shape.equals("not"))
+		{
+			Expression expression = ((ast.Assignment) last).source();
+			while (expression instanceof LogicalNot)
+			{
+				levels++;
+				expression = ((LogicalNot) expression).expression();
+			}
+			return levels == depth;
+		}
+		return true;
+	}
+}
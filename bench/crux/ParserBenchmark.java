@@ -0,0 +1,82 @@
+package crux;
+
+import java.io.File;
+import java.io.IOException;
+
+// Recursive descent against table-driven parsing, against recursive
+// descent with the function bodies parsed on -threads threads (all
+// processors by default), and against parsing the signatures only (bodies
+// left unparsed), of the same pre-lexed source, so lexing is not part of
+// the measurement. The parallel row is only a speedup when there are at
+// least as many cores as threads; the header says how many there are.
+// Usage: ParserBenchmark [-size bytes] [-rounds n] [-threads n] [source.crx]
+public class ParserBenchmark
+{
+	private static final int WARMUP_ROUNDS = 5;
+
+	private static final String[] MODES = { "recursive", "table-driven", "parallel",
+			"signatures" };
+
+	public static void main(String[] args) throws IOException
+	{
+		CruxGenerator generator = new CruxGenerator();
+		int rounds = 10;
+		threads = Runtime.getRuntime().availableProcessors();
+		File sourceFile = null;
+
+		for (int i = 0; i < args.length; i++)
+		{
+			if (args[i].equals("-size"))
+				generator.size(Integer.parseInt(args[++i]));
+			else if (args[i].equals("-rounds"))
+				rounds = Integer.parseInt(args[++i]);
+			else if (args[i].equals("-threads"))
+				threads = Integer.parseInt(args[++i]);
+			else
+				sourceFile = new File(args[i]);
+		}
+
+		SourceBuffer source = sourceFile != null
+				? SourceBuffer.map(sourceFile)
+				: generator.generateSource();
+		TokenBuffer tokens = TokenBuffer.lex(source);
+
+		System.out.printf("%s: %.1f MB, %d tokens, %d cores, parallel on %d threads%n",
+				sourceFile != null ? sourceFile : "generated",
+				source.length() / (1024.0 * 1024.0), tokens.size(),
+				Runtime.getRuntime().availableProcessors(), threads);
+
+		for (String mode : MODES)
+		{
+			for (int i = 0; i < WARMUP_ROUNDS; i++)
+				parse(tokens, mode);
+
+			long best = Long.MAX_VALUE;
+			for (int i = 0; i < rounds; i++)
+			{
+				long start = System.nanoTime();
+				parse(tokens, mode);
+				best = Math.min(best, System.nanoTime() - start);
+			}
+
+			double seconds = best / 1e9;
+			System.out.printf("%-16s %8.1f ms %12.0f tokens/s%n", mode,
+					seconds * 1e3, tokens.size() / seconds);
+		}
+	}
+
+	private static int threads;
+
+	private static void parse(TokenBuffer tokens, String mode) throws IOException
+	{
+		Parser parser = new Parser(tokens, mode.equals("table-driven"));
+		if (mode.equals("parallel"))
+			parser.parse(threads);
+		else if (mode.equals("signatures"))
+			parser.parseSignatures();
+		else
+			parser.parse();
+		if (parser.hasError())
+			throw new IllegalStateException(parser.errorReport());
+	}
+}
@@ -0,0 +1,81 @@
+package crux;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+// Compiles sources that fail to compile, such as tests/test23.crx, with the
+// Compiler run one phase after the other and with -Dcrux.pipeline=true, each
+// in a JVM of its own from the source's directory, and checks that both
+// print exactly the report in the source's .out file.
+// Usage: PipelineGoldenCheck source.crx...
+public class PipelineGoldenCheck
+{
+	public static void main(String[] args) throws Exception
+	{
+		int failed = 0;
+		for (String filename : args)
+		{
+			File source = new File(filename).getAbsoluteFile();
+			String expected = read(new File(source.getParentFile(),
+					source.getName().replace(".crx", ".out")));
+			for (boolean pipelined : new boolean[] { false, true })
+			{
+				boolean same = compile(source, pipelined).equals(expected);
+				System.out.printf("%s %s: %s%n", filename,
+						pipelined ? "pipelined" : "sequential", same ? "same" : "DIFFERENT");
+				if (!same)
+					failed++;
+			}
+		}
+		if (failed > 0)
+			System.exit(1);
+	}
+
+	// what the Compiler prints on System.out
+	private static String compile(File source, boolean pipelined)
+			throws IOException, InterruptedException
+	{
+		List<String> command = new ArrayList<String>();
+		command.add(new File(System.getProperty("java.home"), "bin/java").getPath());
+		command.add("-cp");
+		command.add(System.getProperty("java.class.path"));
+		command.add("-D" + Compiler.PIPELINE_PROPERTY + "=" + pipelined);
+		command.add(Compiler.class.getName());
+		command.add(source.getName());
+
+		ProcessBuilder builder = new ProcessBuilder(command);
+		builder.directory(source.getParentFile());
+		Process process = builder.start();
+		process.getOutputStream().close();
+		process.getErrorStream().close();
+		String out = read(process.getInputStream());
+		process.waitFor();
+		return out;
+	}
+
+	private static String read(File file) throws IOException
+	{
+		return read(new FileInputStream(file));
+	}
+
+	private static String read(InputStream in) throws IOException
+	{
+		try
+		{
+			ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+			byte[] buffer = new byte[8192];
+			for (int n = in.read(buffer); n >= 0; n = in.read(buffer))
+				bytes.write(buffer, 0, n);
+			return bytes.toString();
+		}
+		finally
+		{
+			in.close();
+		}
+	}
+}
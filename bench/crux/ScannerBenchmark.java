@@ -0,0 +1,209 @@
+package crux;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.StringReader;
+import java.lang.management.ManagementFactory;
+import java.util.Properties;
+
+// Throughput of every way of lexing a Crux source: tokens/s, MB/s and the
+// bytes allocated per token, on a generated program (see CruxGenerator).
+// With -baseline <file> the first run records its results there and every
+// later run is reported against them, so a lexer change is measured rather
+// than guessed.
+// Usage: ScannerBenchmark [-size bytes] [-identifiers ratio] [-comments ratio]
+//        [-floats ratio] [-seed n] [-rounds n] [-baseline file] [source.crx]
+public class ScannerBenchmark
+{
+	private static final int WARMUP_ROUNDS = 5;
+
+	// one way of lexing the whole source, returns the number of tokens
+	private static abstract class Lexing
+	{
+		final String name;
+
+		Lexing(String name)
+		{
+			this.name = name;
+		}
+
+		abstract int run(SourceBuffer source, String text) throws IOException;
+	}
+
+	private static int drain(Scanner scanner) throws IOException
+	{
+		int count = 0;
+		while (scanner.next().kind() != Token.Kind.EOF)
+			count++;
+		return count + 1;
+	}
+
+	private static final Lexing[] LEXINGS = {
+		new Lexing("scanner-reader") {
+			int run(SourceBuffer source, String text) throws IOException
+			{
+				return drain(new Scanner(new StringReader(text)));
+			}
+		},
+		new Lexing("scanner-buffer") {
+			int run(SourceBuffer source, String text) throws IOException
+			{
+				return drain(new Scanner(source));
+			}
+		},
+		new Lexing("scanner-table") {
+			int run(SourceBuffer source, String text) throws IOException
+			{
+				return drain(new Scanner(source, true));
+			}
+		},
+		new Lexing("token-buffer") {
+			int run(SourceBuffer source, String text)
+			{
+				return TokenBuffer.lex(source).size();
+			}
+		},
+		new Lexing("parallel") {
+			int run(SourceBuffer source, String text)
+			{
+				return ParallelLexer.lex(source).size();
+			}
+		},
+	};
+
+	public static void main(String[] args) throws IOException
+	{
+		CruxGenerator generator = new CruxGenerator();
+		int rounds = 10;
+		File baselineFile = null;
+		File sourceFile = null;
+
+		for (int i = 0; i < args.length; i++)
+		{
+			String arg = args[i];
+			if (arg.equals("-size"))
+				generator.size(Integer.parseInt(args[++i]));
+			else if (arg.equals("-identifiers"))
+				generator.identifierDensity(Double.parseDouble(args[++i]));
+			else if (arg.equals("-comments"))
+				generator.commentRatio(Double.parseDouble(args[++i]));
+			else if (arg.equals("-floats"))
+				generator.floatRatio(Double.parseDouble(args[++i]));
+			else if (arg.equals("-seed"))
+				generator.seed(Long.parseLong(args[++i]));
+			else if (arg.equals("-rounds"))
+				rounds = Integer.parseInt(args[++i]);
+			else if (arg.equals("-baseline"))
+				baselineFile = new File(args[++i]);
+			else
+				sourceFile = new File(arg);
+		}
+
+		SourceBuffer source = sourceFile != null
+				? SourceBuffer.map(sourceFile)
+				: generator.generateSource();
+		String text = source.substring(0, source.length());
+		double megabytes = source.length() / (1024.0 * 1024.0);
+
+		Properties baseline = load(baselineFile);
+		Properties results = new Properties();
+
+		System.out.printf("%s: %.1f MB%n", sourceFile != null ? sourceFile : "generated", megabytes);
+		System.out.printf("%-16s %12s %10s %14s %10s%n", "", "tokens/s", "MB/s",
+				"bytes/token", "vs base");
+
+		boolean countsAllocation = allocatedBytes() >= 0;
+		int expected = -1;
+		for (Lexing lexing : LEXINGS)
+		{
+			for (int i = 0; i < WARMUP_ROUNDS; i++)
+				lexing.run(source, text);
+
+			long best = Long.MAX_VALUE;
+			long allocated = Long.MAX_VALUE;
+			int tokens = 0;
+			for (int i = 0; i < rounds; i++)
+			{
+				long bytes = allocatedBytes();
+				long start = System.nanoTime();
+				tokens = lexing.run(source, text);
+				best = Math.min(best, System.nanoTime() - start);
+				allocated = Math.min(allocated, allocatedBytes() - bytes);
+			}
+
+			if (expected < 0)
+				expected = tokens;
+			else if (tokens != expected)
+				throw new IllegalStateException(lexing.name + " produced " + tokens
+						+ " tokens, expected " + expected);
+
+			double seconds = best / 1e9;
+			double tokensPerSecond = tokens / seconds;
+			results.setProperty(lexing.name, Double.toString(tokensPerSecond));
+
+			String change = "";
+			String recorded = baseline.getProperty(lexing.name);
+			if (recorded != null)
+				change = String.format("%+.1f%%",
+						(tokensPerSecond / Double.parseDouble(recorded) - 1) * 100);
+
+			System.out.printf("%-16s %12.0f %10.1f %14s %10s%n", lexing.name,
+					tokensPerSecond, megabytes / seconds,
+					!countsAllocation ? "n/a" : String.format("%.1f", (double) allocated / tokens),
+					change);
+		}
+
+		if (baselineFile != null && baseline.isEmpty())
+		{
+			store(results, baselineFile);
+			System.out.println("baseline recorded in " + baselineFile);
+		}
+	}
+
+	// bytes allocated so far by this thread, or -1 when the JVM cannot tell;
+	// allocations made on other threads (the parallel lexer's pool) are not
+	// included
+	private static long allocatedBytes()
+	{
+		java.lang.management.ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+		if (!(threads instanceof com.sun.management.ThreadMXBean))
+			return -1;
+		return ((com.sun.management.ThreadMXBean) threads)
+				.getThreadAllocatedBytes(Thread.currentThread().getId());
+	}
+
+	private static Properties load(File file) throws IOException
+	{
+		Properties properties = new Properties();
+		if (file == null || !file.exists())
+			return properties;
+
+		InputStream in = new FileInputStream(file);
+		try
+		{
+			properties.load(in);
+		}
+		finally
+		{
+			in.close();
+		}
+		return properties;
+	}
+
+	private static void store(Properties properties, File file) throws IOException
+	{
+		OutputStream out = new FileOutputStream(file);
+		try
+		{
+			properties.store(out, "ScannerBenchmark tokens/s");
+		}
+		finally
+		{
+			out.close();
+		}
+	}
+}
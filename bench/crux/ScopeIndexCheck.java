@@ -0,0 +1,117 @@
+package crux;
+
+import java.io.IOException;
+
+// Checks ScopeIndex answers against what is visible in the source: a small
+// program with shadowing and nested scopes whose answers are written down,
+// then every identifier of a generated program, where Snapshot.lookup()
+// has to agree with the first symbol of that name in Snapshot.visible().
+// Usage: ScopeIndexCheck [generated bytes]
+public class ScopeIndexCheck
+{
+	private static final String PROGRAM =
+			  "var x : int;\n"							// 1
+			+ "func f(x : float) : void {\n"			// 2
+			+ "  var y : bool;\n"						// 3
+			+ "  if (true) {\n"							// 4
+			+ "    var x : bool;\n"						// 5
+			+ "    ::printBool(x);\n"					// 6
+			+ "  }\n"									// 7
+			+ "  ::printFloat(x);\n"					// 8
+			+ "}\n"										// 9
+			+ "var y : int;\n"							// 10
+			+ "func main() : void {\n"					// 11
+			+ "  ::printInt(x);\n"						// 12
+			+ "}\n";									// 13
+
+	// line, char, name, and the kind and type it resolves to there ("-" if
+	// it is not visible)
+	private static final Object[][] EXPECTED = {
+		{ 1, 1, "x", "-" },							// before its declaration
+		{ 1, 9, "x", "GLOBAL int" },
+		{ 3, 3, "x", "ARGUMENT float" },			// the parameter hides the global
+		{ 3, 3, "f", "FUNCTION void" },				// a function sees itself
+		{ 6, 17, "x", "LOCAL bool" },				// the block's hides the parameter
+		{ 6, 17, "y", "LOCAL bool" },
+		{ 8, 16, "x", "ARGUMENT float" },			// after the block is left
+		{ 8, 16, "y", "LOCAL bool" },
+		{ 10, 1, "x", "GLOBAL int" },				// after the function is left
+		{ 10, 1, "y", "-" },
+		{ 12, 14, "x", "GLOBAL int" },
+		{ 12, 14, "y", "GLOBAL int" },
+		{ 12, 14, "main", "FUNCTION void" },
+		{ 12, 14, "printInt", "FUNCTION void" },
+	};
+
+	public static void main(String[] args) throws IOException
+	{
+		int bytes = args.length > 0 ? Integer.parseInt(args[0]) : 64 * 1024;
+		int failed = checkExpected() + checkGenerated(bytes);
+		if (failed > 0)
+			System.exit(1);
+	}
+
+	private static int checkExpected() throws IOException
+	{
+		ScopeIndex index = parse(TokenBuffer.lex(SourceBuffer.wrap(PROGRAM)));
+		int failed = 0;
+		for (Object[] expected : EXPECTED)
+		{
+			int line = (Integer) expected[0];
+			int charPosition = (Integer) expected[1];
+			SymbolTable.Snapshot snapshot = index.at(line, charPosition);
+			Symbol symbol = snapshot.lookup((String) expected[2]);
+			String found = symbol == null ? "-" : symbol.kind() + " " + symbol.type();
+			if (!found.equals(expected[3])
+					|| symbol != null && !snapshot.visible().contains(symbol))
+			{
+				System.out.printf("%d:%d %s is %s, expected %s%n", line, charPosition,
+						expected[2], found, expected[3]);
+				failed++;
+			}
+		}
+		System.out.printf("%d expected lookups, %d failed%n", EXPECTED.length, failed);
+		return failed;
+	}
+
+	private static int checkGenerated(int bytes) throws IOException
+	{
+		TokenBuffer tokens = TokenBuffer.lex(new CruxGenerator().size(bytes).generateSource());
+		ScopeIndex index = parse(tokens);
+		int checked = 0;
+		int failed = 0;
+		for (int i = 0; i < tokens.size(); i++)
+		{
+			if (tokens.kind(i) != Token.Kind.IDENTIFIER)
+				continue;
+			String name = tokens.lexeme(i);
+			SymbolTable.Snapshot snapshot = index.at(tokens.lineNumber(i),
+					tokens.charPosition(i));
+			Symbol visible = null;
+			for (Symbol symbol : snapshot.visible())
+			{
+				if (symbol.name().equals(name))
+				{
+					visible = symbol;
+					break;
+				}
+			}
+			checked++;
+			if (snapshot.lookup(name) != visible)
+				failed++;
+		}
+		System.out.printf("%d identifiers of a generated program, %d records, %d failed%n",
+				checked, index.size(), failed);
+		return failed;
+	}
+
+	private static ScopeIndex parse(TokenBuffer tokens) throws IOException
+	{
+		Parser parser = new Parser(tokens);
+		parser.setScopeIndex(true);
+		parser.parse();
+		if (parser.hasError())
+			throw new IllegalStateException(parser.errorReport());
+		return parser.scopeIndex();
+	}
+}
@@ -66,9 +66,9 @@ public abstract class Command implements Visitable
 		case FALSE:
 			return new LiteralBool(tok.lineNumber(), tok.charPosition(), LiteralBool.Value.FALSE);
 		case INTEGER:
-			return new LiteralInt(tok.lineNumber(), tok.charPosition(), Integer.valueOf(tok.lexeme()));
+			return new LiteralInt(tok.lineNumber(), tok.charPosition(), tok.intValue());
 		case FLOAT: 
-			return new LiteralFloat(tok.lineNumber(), tok.charPosition(), Float.valueOf(tok.lexeme()));
+			return new LiteralFloat(tok.lineNumber(), tok.charPosition(), tok.floatValue());
 		default:
 			return new Error(tok.lineNumber(), tok.charPosition(), "Unknown Operation: " + tok);
 		}
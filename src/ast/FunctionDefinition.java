@@ -6,8 +6,16 @@ import crux.Symbol;
 
 public class FunctionDefinition extends Command implements Declaration {
 
+	// parses a body that was skipped, see crux.Parser.parseSignatures();
+	// must return the same StatementList every time
+	public interface Body
+	{
+		StatementList parse();
+	}
+
 	private Symbol func;
 	private StatementList body;
+	private Body lazyBody;
 	private List<Symbol> args;
 	
 	public FunctionDefinition(int lineNum, int charPos, Symbol func, List<Symbol> args, StatementList body)
@@ -17,6 +25,15 @@ public class FunctionDefinition extends Command implements Declaration {
 		this.args = args;
 		this.body = body;
 	}
+
+	// a function whose body is only parsed when body() is first called
+	public FunctionDefinition(int lineNum, int charPos, Symbol func, List<Symbol> args, Body body)
+	{
+		super(lineNum, charPos);
+		this.func = func;
+		this.args = args;
+		this.lazyBody = body;
+	}
 	
 	public Symbol function()
 	{
@@ -25,6 +42,8 @@ public class FunctionDefinition extends Command implements Declaration {
 	
 	public StatementList body()
 	{
+		if (lazyBody != null)
+			return lazyBody.parse();
 		return body;
 	}
 	
@@ -2,14 +2,14 @@ package ast;
 
 public class LiteralFloat extends Command implements Expression {
 	
-	private Float value;
+	private float value;
 
-	public LiteralFloat(int lineNum, int charPos, Float value) {
+	public LiteralFloat(int lineNum, int charPos, float value) {
 		super(lineNum, charPos);
 		this.value = value;
 	}
 	
-	public Float value()
+	public float value()
 	{
 		return value;
 	}
@@ -2,14 +2,14 @@ package ast;
 
 public class LiteralInt extends Command implements Expression {
 	
-	private Integer value;
+	private int value;
 
-	public LiteralInt(int lineNum, int charPos, Integer value) {
+	public LiteralInt(int lineNum, int charPos, int value) {
 		super(lineNum, charPos);
 		this.value = value;
 	}
 	
-	public Integer value()
+	public int value()
 	{
 		return value;
 	}
@@ -1,23 +1,61 @@
 package ast;
 
+import java.io.IOException;
+import java.io.Writer;
+
+// Prints a tree one node per line, indented two spaces per level, either
+// into a String (toString()) or straight to a Writer, so the tree of a very
+// large program never has to fit in memory as text.
 public class PrettyPrinter implements CommandVisitor {
 	
 	private int depth = 0;
-	private StringBuffer sb = new StringBuffer();
+	private StringBuilder sb;
+	private Appendable out;
+
+	// indentation of every depth seen so far, built once per depth
+	private String[] indents = { "" };
 	
+	public PrettyPrinter()
+	{
+		sb = new StringBuilder();
+		out = sb;
+	}
+
+	// print to out as the tree is visited; out is neither flushed nor closed
+	public PrettyPrinter(Writer out)
+	{
+		this.out = out;
+	}
+
 	private void println(Object obj)
 	{
-		String indent = new String();
-		for (int i = 0; i < depth; i++) {
-			indent += "  ";
+		try
+		{
+			out.append(indent(depth)).append(obj.toString()).append('\n');
+		}
+		catch (IOException e)
+		{
+			// a visitor cannot throw IOException
+			throw new RuntimeException(e);
+		}
+	}
+
+	private String indent(int depth)
+	{
+		if (depth >= indents.length)
+		{
+			String[] grown = new String[Math.max(indents.length * 2, depth + 1)];
+			System.arraycopy(indents, 0, grown, 0, indents.length);
+			for (int i = indents.length; i < grown.length; i++)
+				grown[i] = grown[i - 1] + "  ";
+			indents = grown;
 		}
-		
-		sb.append(indent + obj.toString() + "\n");
+		return indents[depth];
 	}
 	
 	public String toString()
 	{
-		return sb.toString();
+		return sb != null ? sb.toString() : super.toString();
 	}
 	
 	@Override
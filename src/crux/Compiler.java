@@ -1,22 +1,77 @@
 package crux;
+import java.io.BufferedWriter;
 import java.io.File;
-import java.io.FileReader;
+import java.io.FileWriter;
 import java.io.IOException;
+import java.io.OutputStreamWriter;
 import java.io.PrintStream;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 
 public class Compiler {
 	public static String studentName = "TODO: Your Name";
 	public static String studentID = "TODO: Your 8-digit id";
 	public static String uciNetID = "TODO: uci-net id";
 
+	// part of the TokenCache key and of every module interface file, bump it
+	// whenever the lexer, the token stream format or the module format changes
+	public static final String VERSION = "crux-1.1";
+
+	// -Dcrux.parseTree=file streams the parse tree to file ("-" for
+	// standard output) right after parsing; off when not set. The pipeline
+	// keeps no tree, so with -Dcrux.pipeline=true there is nothing to dump
+	// and the compiler warns and compiles without it.
+	public static final String PARSE_TREE_PROPERTY = "crux.parseTree";
+
+	// -Dcrux.pipeline=true type checks and generates each declaration on
+	// its own thread as soon as it is parsed, see Pipeline
+	public static final String PIPELINE_PROPERTY = "crux.pipeline";
+
+	// Usage: Compiler [-library] [-import module.crxi]... source.crx
+	// -library compiles source.crx to the module interface file
+	// source.crxi instead of source.asm, -import compiles against one and
+	// links its assembly into the program, see Module
 	public static void main(String[] args)
 	{
-		String sourceFilename = args[0];
+		String sourceFilename = args[args.length - 1];
+		boolean library = false;
+		List<Module> imports = new ArrayList<Module>();
+		List<String> importFilenames = new ArrayList<String>();
+		for (int i = 0; i < args.length - 1; i++)
+		{
+			if (args[i].equals("-library"))
+				library = true;
+			else if (args[i].equals("-import"))
+			{
+				importFilenames.add(args[++i]);
+				imports.add(readModule(args[i]));
+			}
+		}
+		checkRequires(imports);
 
-		Scanner s = null;
+		TokenBuffer tokens = null;
 		try 
 		{
-			s = new Scanner(new FileReader(sourceFilename));
+			// lex the whole memory-mapped source up front with the
+			// table-driven lexer core, on several threads for large files,
+			// unless the tokens of this exact source are cached
+			SourceBuffer source = SourceBuffer.map(new File(sourceFilename));
+			TokenCache cache = TokenCache.fromSystemProperties();
+			File entry = null;
+			if (cache != null)
+			{
+				entry = cache.entryFor(source);
+				tokens = cache.load(source, entry);
+			}
+			if (tokens == null)
+			{
+				tokens = ParallelLexer.lex(source);
+				if (cache != null)
+					cache.store(source, tokens, entry);
+			}
 		} 
 		catch (IOException e) {
 			e.printStackTrace();
@@ -24,42 +79,157 @@ public class Compiler {
 			System.exit(-2);
 		}
 
+		String moduleName = Module.moduleName(new File(sourceFilename));
 		Parser p;
+		types.TypeChecker tc = null;
 		mips.CodeGen cg = null;
 		try 
 		{
-			p = new Parser(s);
-			ast.Command syntaxTree = p.parse();
-			if (p.hasError()) 
+			p = new Parser(tokens);
+			for (int i = 0; i < imports.size(); i++)
+				addImport(p, imports.get(i), importFilenames.get(i));
+
+			if (Boolean.getBoolean(PIPELINE_PROPERTY))
 			{
-				System.out.println("Error parsing file " + sourceFilename);
-				System.out.println(p.errorReport());
-				System.exit(-3);
+				if (System.getProperty(PARSE_TREE_PROPERTY) != null)
+					System.err.println("Warning: -D" + PARSE_TREE_PROPERTY
+							+ " is ignored with -D" + PIPELINE_PROPERTY
+							+ ", the pipeline keeps no parse tree");
+				Pipeline pipeline = new Pipeline(p);
+				tc = pipeline.typeChecker();
+				cg = pipeline.codeGen();
+				for (Module module : imports)
+					tc.addImport(module);
+				if (library)
+					cg.getProgram().setModule(moduleName);
+				pipeline.run();
+				exitOnError(p.hasError(), "parsing", sourceFilename, p.errorReport(), -3);
+				exitOnError(tc.hasError(), "type-checking", sourceFilename, tc.errorReport(), -4);
+				exitOnError(cg.hasError(), "generating code for", sourceFilename, cg.errorReport(), -5);
 			}
+			else
+			{
+				// function bodies of large files are parsed on several threads
+				ast.Command syntaxTree = p.parse(Runtime.getRuntime().availableProcessors());
+				String parseTreeFile = System.getProperty(PARSE_TREE_PROPERTY);
+				if (parseTreeFile != null)
+					dumpParseTree(syntaxTree, parseTreeFile);
+				exitOnError(p.hasError(), "parsing", sourceFilename, p.errorReport(), -3);
 
-			types.TypeChecker tc = new types.TypeChecker();
-			tc.check(syntaxTree);
-			if (tc.hasError()) {
-				System.out.println("Error type-checking file " + sourceFilename);
-				System.out.println(tc.errorReport());
-				System.exit(-4);
+				tc = new types.TypeChecker();
+				for (Module module : imports)
+					tc.addImport(module);
+				tc.check(syntaxTree);
+				exitOnError(tc.hasError(), "type-checking", sourceFilename, tc.errorReport(), -4);
+
+				cg = new mips.CodeGen(tc);
+				if (library)
+					cg.getProgram().setModule(moduleName);
+				cg.generate(syntaxTree);
+				exitOnError(cg.hasError(), "generating code for", sourceFilename, cg.errorReport(), -5);
 			}
 
-			cg = new mips.CodeGen(tc);
-			cg.generate(syntaxTree);
-			if (cg.hasError()) {
-				System.out.println("Error generating code for file " + sourceFilename);
-				System.out.println(cg.errorReport());
-				System.exit(-5);
+			if (library)
+			{
+				writeModule(Module.of(moduleName, imports, p.declaredGlobals(), tc,
+						cg.getProgram()), sourceFilename);
+				return;
 			}
 		} 
-		catch (IOException e1) 
+		catch (IOException e) 
+		{
+			// the tokens are all in memory, but parsing is declared to read
+			e.printStackTrace();
+			System.err.println("Error accessing the source file: \"" + sourceFilename + "\"");
+			System.exit(-2);
+			return;
+		}
+
+		for (Module module : imports)
+			cg.getProgram().link(module.data(), module.code());
+		writeAssembly(cg, sourceFilename);
+	}
+
+	private static Module readModule(String moduleFilename)
+	{
+		try
+		{
+			return Module.read(new File(moduleFilename));
+		}
+		catch (IOException e)
+		{
+			System.err.println(e.getMessage());
+			System.err.println("Error reading module interface file: \"" + moduleFilename + "\"");
+			System.exit(-7);
+			return null;
+		}
+	}
+
+	// two imports, or an import and a built-in function, cannot have the
+	// same name
+	private static void addImport(Parser p, Module module, String moduleFilename)
+	{
+		try
+		{
+			p.addImport(module);
+		}
+		catch (IllegalArgumentException e)
+		{
+			System.err.println(e.getMessage());
+			System.err.println("Error importing module interface file: \"" + moduleFilename + "\"");
+			System.exit(-7);
+		}
+	}
+
+	// a library calls into the libraries it was compiled against, they have
+	// to be linked too
+	private static void checkRequires(List<Module> imports)
+	{
+		Set<String> names = new HashSet<String>();
+		for (Module module : imports)
+			names.add(module.name());
+		for (Module module : imports)
 		{
-			// TODO Auto-generated catch block
-			e1.printStackTrace();
-		
+			for (String required : module.requires())
+			{
+				if (!names.contains(required))
+				{
+					System.err.println("Module " + module.name() + " requires module "
+							+ required + ", import it too");
+					System.exit(-7);
+				}
+			}
 		}
+	}
 
+	private static void writeModule(Module module, String sourceFilename)
+	{
+		String moduleFilename = sourceFilename.replace(".crx", Module.SUFFIX);
+		try
+		{
+			module.write(new File(moduleFilename));
+		}
+		catch (IOException e)
+		{
+			e.printStackTrace();
+			System.err.println("Error writing module interface file: \"" + moduleFilename + "\"");
+			System.exit(-6);
+		}
+	}
+
+	private static void exitOnError(boolean hasError, String phase, String sourceFilename,
+			String errorReport, int status)
+	{
+		if (hasError)
+		{
+			System.out.println("Error " + phase + " file " + sourceFilename);
+			System.out.println(errorReport);
+			System.exit(status);
+		}
+	}
+
+	private static void writeAssembly(mips.CodeGen cg, String sourceFilename)
+	{
 		String asmFilename = sourceFilename.replace(".crx", ".asm");
 		try {
 			mips.Program prog = cg.getProgram();
@@ -73,5 +243,50 @@ public class Compiler {
 			System.exit(-6);
 		}
 	}
-}
 
+	private static void dumpParseTree(ast.Command syntaxTree, String fileName)
+	{
+		try
+		{
+			writeParseTree(syntaxTree, fileName);
+		}
+		catch (IOException e)
+		{
+			parseTreeError(e, fileName);
+		}
+		catch (RuntimeException e)
+		{
+			// the PrettyPrinter wraps what the Writer throws
+			if (!(e.getCause() instanceof IOException))
+				throw e;
+			parseTreeError(e.getCause(), fileName);
+		}
+	}
+
+	private static void writeParseTree(ast.Command syntaxTree, String fileName)
+			throws IOException
+	{
+		Writer out = fileName.equals("-")
+				? new OutputStreamWriter(System.out)
+				: new FileWriter(fileName);
+		out = new BufferedWriter(out, 64 * 1024);
+		try
+		{
+			syntaxTree.accept(new ast.PrettyPrinter(out));
+		}
+		finally
+		{
+			if (fileName.equals("-"))
+				out.flush();
+			else
+				out.close();
+		}
+	}
+
+	private static void parseTreeError(Throwable e, String fileName)
+	{
+		e.printStackTrace();
+		System.err.println("Error writing parse tree file: \"" + fileName + "\"");
+		System.exit(-6);
+	}
+}
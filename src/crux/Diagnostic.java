@@ -0,0 +1,91 @@
+package crux;
+
+import types.ErrorType;
+
+// One error found by the parser or the type checker, kept as its kind, its
+// position and the values it is about. The text is only built when the
+// report is rendered, so errors nobody reads cost next to nothing.
+public class Diagnostic
+{
+	public enum Kind
+	{
+		SYNTAX,			// expected Token.Kind or NonTerminal, Token.Kind found
+		RESOLVE_SYMBOL,	// name
+		DECLARE_SYMBOL,	// name
+		TYPE,			// ErrorType
+	}
+
+	private Kind kind;
+	private int lineNumber;
+	private int charPosition;
+	private Object[] arguments;
+	private String symbolTable;	// the scopes at the error, when dumps are asked for
+
+	public Diagnostic(Kind kind, int lineNumber, int charPosition, Object... arguments)
+	{
+		this.kind = kind;
+		this.lineNumber = lineNumber;
+		this.charPosition = charPosition;
+		this.arguments = arguments;
+	}
+
+	void setSymbolTable(String symbolTable)
+	{
+		this.symbolTable = symbolTable;
+	}
+
+	public Kind kind()
+	{
+		return kind;
+	}
+
+	public int lineNumber()
+	{
+		return lineNumber;
+	}
+
+	public int charPosition()
+	{
+		return charPosition;
+	}
+
+	public Object argument(int index)
+	{
+		return arguments[index];
+	}
+
+	// the report line, e.g. "SyntaxError(3,11)[Expected SEMICOLON but got EOF.]"
+	public String message()
+	{
+		String position = "(" + lineNumber + "," + charPosition + ")";
+		switch (kind)
+		{
+		case SYNTAX:
+			Object expected = arguments[0];
+			return "SyntaxError" + position + "[Expected "
+					+ (expected instanceof NonTerminal
+							? "a token from " + ((NonTerminal) expected).name()
+							: expected)
+					+ " but got " + arguments[1] + ".]";
+		case RESOLVE_SYMBOL:
+			return "ResolveSymbolError" + position + "[Could not find " + arguments[0] + ".]";
+		case DECLARE_SYMBOL:
+			return "DeclareSymbolError" + position + "[" + arguments[0] + " already exists.]";
+		default:
+			return "TypeError" + position + "[" + ((ErrorType) arguments[0]).getMessage() + "]";
+		}
+	}
+
+	void render(StringBuilder out)
+	{
+		out.append(message()).append('\n');
+		if (symbolTable != null)
+			out.append(symbolTable).append('\n');
+	}
+
+	@Override
+	public String toString()
+	{
+		return message();
+	}
+}
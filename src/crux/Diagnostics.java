@@ -0,0 +1,77 @@
+package crux;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+
+// The diagnostics of one phase, in the order they were reported.
+// Only the first limit of them are kept, a pathological file cannot pile up
+// errors without end; the rest are counted and summed up in the report.
+// Safe to report to from several threads, like the StringBuffer it replaces.
+public class Diagnostics implements Iterable<Diagnostic>
+{
+	// -Dcrux.maxDiagnostics=n keeps at most n diagnostics per phase
+	public static final String LIMIT_PROPERTY = "crux.maxDiagnostics";
+	public static final int DEFAULT_LIMIT = 1000;
+
+	private ArrayList<Diagnostic> kept = new ArrayList<Diagnostic>();
+	private int limit;
+	private int count;	// reported, kept or not
+
+	public Diagnostics()
+	{
+		this(Integer.getInteger(LIMIT_PROPERTY, DEFAULT_LIMIT));
+	}
+
+	public Diagnostics(int limit)
+	{
+		this.limit = limit;
+	}
+
+	public synchronized void add(Diagnostic diagnostic)
+	{
+		if (count++ < limit)
+			kept.add(diagnostic);
+	}
+
+	// add what other reported from index begin up to end, in order
+	synchronized void addAll(Diagnostics other, int begin, int end)
+	{
+		synchronized (other)
+		{
+			for (int i = begin; i < end; i++)
+			{
+				if (i < other.kept.size())
+					add(other.kept.get(i));
+				else
+					count++;
+			}
+		}
+	}
+
+	// the number of diagnostics reported, including the ones not kept
+	public synchronized int count()
+	{
+		return count;
+	}
+
+	public synchronized boolean isEmpty()
+	{
+		return count == 0;
+	}
+
+	public synchronized String render()
+	{
+		StringBuilder out = new StringBuilder();
+		for (Diagnostic diagnostic : kept)
+			diagnostic.render(out);
+		if (count > kept.size())
+			out.append("... and " + (count - kept.size()) + " more errors.\n");
+		return out.toString();
+	}
+
+	@Override
+	public synchronized Iterator<Diagnostic> iterator()
+	{
+		return new ArrayList<Diagnostic>(kept).iterator();
+	}
+}
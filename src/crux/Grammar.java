@@ -0,0 +1,504 @@
+package crux;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import crux.Token.Kind;
+
+// The Crux grammar written down as data, for the table-driven Parser.
+// Repetitions and options of the EBNF are spelled out as right recursive
+// helper rules, and the parser's semantic work (building AST nodes, symbol
+// table updates) is interleaved as action symbols that the parser performs
+// when it pops them. FIRST and FOLLOW sets are computed from the productions
+// and turned into an LL(1) prediction table indexed by rule ordinal and
+// Token.Kind ordinal.
+class Grammar
+{
+	static enum Rule
+	{
+		PROGRAM(NonTerminal.PROGRAM),
+		DECLARATIONS(NonTerminal.DECLARATION_LIST),
+		DECLARATION(NonTerminal.DECLARATION),
+		VARIABLE_DECLARATION(NonTerminal.VARIABLE_DECLARATION),
+		ARRAY_DECLARATION(NonTerminal.ARRAY_DECLARATION),
+		DIMENSIONS(NonTerminal.ARRAY_DECLARATION),
+		FUNCTION_DEFINITION(NonTerminal.FUNCTION_DEFINITION),
+		PARAMETERS(NonTerminal.PARAMETER_LIST),
+		MORE_PARAMETERS(NonTerminal.PARAMETER_LIST),
+		PARAMETER(NonTerminal.PARAMETER),
+		TYPE(NonTerminal.TYPE),
+		STATEMENT_BLOCK(NonTerminal.STATEMENT_BLOCK),
+		STATEMENTS(NonTerminal.STATEMENT_LIST),
+		STATEMENT(NonTerminal.STATEMENT),
+		CALL_STATEMENT(NonTerminal.CALL_STATEMENT),
+		ASSIGNMENT_STATEMENT(NonTerminal.ASSIGNMENT_STATEMENT),
+		IF_STATEMENT(NonTerminal.IF_STATEMENT),
+		ELSE_PART(NonTerminal.IF_STATEMENT),
+		WHILE_STATEMENT(NonTerminal.WHILE_STATEMENT),
+		RETURN_STATEMENT(NonTerminal.RETURN_STATEMENT),
+		DESIGNATOR(NonTerminal.DESIGNATOR),
+		INDEXES(NonTerminal.DESIGNATOR),
+		CALL_EXPRESSION(NonTerminal.CALL_EXPRESSION),
+		EXPRESSIONS(NonTerminal.EXPRESSION_LIST),
+		MORE_EXPRESSIONS(NonTerminal.EXPRESSION_LIST),
+		EXPRESSION0(NonTerminal.EXPRESSION0),
+		EXPRESSION0_TAIL(NonTerminal.EXPRESSION0),
+		EXPRESSION1(NonTerminal.EXPRESSION1),
+		EXPRESSION1_TAIL(NonTerminal.EXPRESSION1),
+		EXPRESSION2(NonTerminal.EXPRESSION2),
+		EXPRESSION2_TAIL(NonTerminal.EXPRESSION2),
+		EXPRESSION3(NonTerminal.EXPRESSION3),
+		LITERAL(NonTerminal.LITERAL),
+		OP0(NonTerminal.OP0),
+		OP1(NonTerminal.OP1),
+		OP2(NonTerminal.OP2);
+
+		// the nonterminal named in syntax errors
+		public final NonTerminal reported;
+
+		Rule(NonTerminal reported)
+		{
+			this.reported = reported;
+		}
+	}
+
+	// the semantic actions, see Parser.perform for what each one does
+	static enum Action
+	{
+		MARK,
+		DECLARATION_LIST, ADD_DECLARATION,
+		STATEMENT_LIST, ADD_STATEMENT,
+		EXPRESSION_LIST, ADD_EXPRESSION,
+		PARAMETER_LIST, ADD_PARAMETER,
+		DECLARE, DECLARE_FUNCTION, DECLARE_ARGUMENT,
+		RESOLVE, RESOLVE_CURRENT, RESOLVE_IF_IDENTIFIER,
+		ENTER_SCOPE, EXIT_SCOPE,
+		TYPE, SET_TYPE, SET_FUNCTION_TYPE, DROP,
+		VARIABLE, ARRAY, ARRAY_TYPE, FUNCTION,
+		ADDRESS, INDEX, END_DESIGNATOR, DEREFERENCE,
+		NOT, LITERAL, BINARY, CALL,
+		ASSIGNMENT, RETURN, WHILE, ELSE_LIST, REPLACE_ELSE, IF,
+	}
+
+	private static final Kind[] KINDS = Kind.values();
+	private static final Rule[] RULES = Rule.values();
+	private static final Action[] ACTIONS = Action.values();
+
+	// symbols are ints: terminals, terminals whose Token the parser keeps
+	// on its value stack, rules and actions, one range after the other
+	private static final int KEEP = KINDS.length;
+	private static final int RULE = 2 * KINDS.length;
+	private static final int ACTION = RULE + RULES.length;
+
+	private static final List<int[]> bodies = new ArrayList<int[]>();
+	private static final List<Rule> heads = new ArrayList<Rule>();
+
+	private static int t(Kind kind)
+	{
+		return kind.ordinal();
+	}
+
+	private static int keep(Kind kind)
+	{
+		return KEEP + kind.ordinal();
+	}
+
+	private static int r(Rule rule)
+	{
+		return RULE + rule.ordinal();
+	}
+
+	private static int a(Action action)
+	{
+		return ACTION + action.ordinal();
+	}
+
+	private static void production(Rule head, int... body)
+	{
+		heads.add(head);
+		bodies.add(body);
+	}
+
+	static
+	{
+		production(Rule.PROGRAM, a(Action.DECLARATION_LIST), r(Rule.DECLARATIONS), t(Kind.EOF));
+		production(Rule.DECLARATIONS, r(Rule.DECLARATION), a(Action.ADD_DECLARATION),
+				r(Rule.DECLARATIONS));
+		production(Rule.DECLARATIONS);
+		production(Rule.DECLARATION, r(Rule.VARIABLE_DECLARATION));
+		production(Rule.DECLARATION, r(Rule.ARRAY_DECLARATION));
+		production(Rule.DECLARATION, r(Rule.FUNCTION_DEFINITION));
+
+		production(Rule.VARIABLE_DECLARATION, a(Action.MARK), t(Kind.VAR),
+				keep(Kind.IDENTIFIER), a(Action.DECLARE), a(Action.VARIABLE),
+				t(Kind.COLON), r(Rule.TYPE), a(Action.SET_TYPE), a(Action.DROP),
+				t(Kind.SEMICOLON));
+		production(Rule.ARRAY_DECLARATION, a(Action.MARK), t(Kind.ARRAY),
+				keep(Kind.IDENTIFIER), a(Action.DECLARE), a(Action.ARRAY),
+				t(Kind.COLON), r(Rule.TYPE),
+				t(Kind.OPEN_BRACKET), keep(Kind.INTEGER), t(Kind.CLOSE_BRACKET),
+				r(Rule.DIMENSIONS), a(Action.ARRAY_TYPE), t(Kind.SEMICOLON));
+		production(Rule.DIMENSIONS, t(Kind.OPEN_BRACKET), keep(Kind.INTEGER),
+				t(Kind.CLOSE_BRACKET), r(Rule.DIMENSIONS));
+		production(Rule.DIMENSIONS);
+		production(Rule.FUNCTION_DEFINITION, a(Action.MARK), t(Kind.FUNC),
+				keep(Kind.IDENTIFIER), a(Action.DECLARE_FUNCTION), t(Kind.OPEN_PAREN),
+				a(Action.ENTER_SCOPE), a(Action.PARAMETER_LIST), r(Rule.PARAMETERS),
+				t(Kind.CLOSE_PAREN), t(Kind.COLON), r(Rule.TYPE),
+				a(Action.SET_FUNCTION_TYPE), r(Rule.STATEMENT_BLOCK),
+				a(Action.EXIT_SCOPE), a(Action.FUNCTION));
+		production(Rule.PARAMETERS, r(Rule.PARAMETER), a(Action.ADD_PARAMETER),
+				r(Rule.MORE_PARAMETERS));
+		production(Rule.PARAMETERS);
+		production(Rule.MORE_PARAMETERS, t(Kind.COMMA), r(Rule.PARAMETER),
+				a(Action.ADD_PARAMETER), r(Rule.MORE_PARAMETERS));
+		production(Rule.MORE_PARAMETERS);
+		production(Rule.PARAMETER, keep(Kind.IDENTIFIER), a(Action.DECLARE_ARGUMENT),
+				t(Kind.COLON), r(Rule.TYPE), a(Action.SET_TYPE));
+		production(Rule.TYPE, keep(Kind.IDENTIFIER), a(Action.TYPE));
+
+		production(Rule.STATEMENT_BLOCK, t(Kind.OPEN_BRACE), a(Action.STATEMENT_LIST),
+				r(Rule.STATEMENTS), t(Kind.CLOSE_BRACE));
+		production(Rule.STATEMENTS, r(Rule.STATEMENT), a(Action.ADD_STATEMENT),
+				r(Rule.STATEMENTS));
+		production(Rule.STATEMENTS);
+		production(Rule.STATEMENT, r(Rule.VARIABLE_DECLARATION));
+		production(Rule.STATEMENT, r(Rule.CALL_STATEMENT));
+		production(Rule.STATEMENT, r(Rule.ASSIGNMENT_STATEMENT));
+		production(Rule.STATEMENT, r(Rule.IF_STATEMENT));
+		production(Rule.STATEMENT, r(Rule.WHILE_STATEMENT));
+		production(Rule.STATEMENT, r(Rule.RETURN_STATEMENT));
+		production(Rule.CALL_STATEMENT, r(Rule.CALL_EXPRESSION), t(Kind.SEMICOLON));
+		production(Rule.ASSIGNMENT_STATEMENT, a(Action.MARK), t(Kind.LET),
+				a(Action.RESOLVE_IF_IDENTIFIER), r(Rule.DESIGNATOR), t(Kind.ASSIGN),
+				r(Rule.EXPRESSION0), t(Kind.SEMICOLON), a(Action.ASSIGNMENT));
+		production(Rule.IF_STATEMENT, a(Action.MARK), t(Kind.IF), r(Rule.EXPRESSION0),
+				a(Action.ENTER_SCOPE), r(Rule.STATEMENT_BLOCK), a(Action.EXIT_SCOPE),
+				a(Action.ELSE_LIST), r(Rule.ELSE_PART), a(Action.IF));
+		production(Rule.ELSE_PART, t(Kind.ELSE), a(Action.ENTER_SCOPE),
+				r(Rule.STATEMENT_BLOCK), a(Action.EXIT_SCOPE), a(Action.REPLACE_ELSE));
+		production(Rule.ELSE_PART);
+		production(Rule.WHILE_STATEMENT, a(Action.MARK), t(Kind.WHILE),
+				r(Rule.EXPRESSION0), a(Action.ENTER_SCOPE), r(Rule.STATEMENT_BLOCK),
+				a(Action.EXIT_SCOPE), a(Action.WHILE));
+		production(Rule.RETURN_STATEMENT, a(Action.MARK), t(Kind.RETURN),
+				r(Rule.EXPRESSION0), t(Kind.SEMICOLON), a(Action.RETURN));
+
+		production(Rule.DESIGNATOR, a(Action.MARK), keep(Kind.IDENTIFIER),
+				a(Action.ADDRESS), r(Rule.INDEXES), a(Action.END_DESIGNATOR));
+		production(Rule.INDEXES, t(Kind.OPEN_BRACKET), a(Action.MARK),
+				r(Rule.EXPRESSION0), a(Action.INDEX), t(Kind.CLOSE_BRACKET),
+				r(Rule.INDEXES));
+		production(Rule.INDEXES);
+		production(Rule.CALL_EXPRESSION, a(Action.MARK), t(Kind.CALL),
+				keep(Kind.IDENTIFIER), a(Action.RESOLVE), t(Kind.OPEN_PAREN),
+				a(Action.EXPRESSION_LIST), r(Rule.EXPRESSIONS), t(Kind.CLOSE_PAREN),
+				a(Action.CALL));
+		production(Rule.EXPRESSIONS, r(Rule.EXPRESSION0), a(Action.ADD_EXPRESSION),
+				r(Rule.MORE_EXPRESSIONS));
+		production(Rule.EXPRESSIONS);
+		production(Rule.MORE_EXPRESSIONS, t(Kind.COMMA), r(Rule.EXPRESSION0),
+				a(Action.ADD_EXPRESSION), r(Rule.MORE_EXPRESSIONS));
+		production(Rule.MORE_EXPRESSIONS);
+
+		// expression0 allows a single comparison, the other levels repeat
+		production(Rule.EXPRESSION0, r(Rule.EXPRESSION1), r(Rule.EXPRESSION0_TAIL));
+		production(Rule.EXPRESSION0_TAIL, r(Rule.OP0), r(Rule.EXPRESSION1),
+				a(Action.BINARY));
+		production(Rule.EXPRESSION0_TAIL);
+		production(Rule.EXPRESSION1, r(Rule.EXPRESSION2), r(Rule.EXPRESSION1_TAIL));
+		production(Rule.EXPRESSION1_TAIL, r(Rule.OP1), r(Rule.EXPRESSION2),
+				a(Action.BINARY), r(Rule.EXPRESSION1_TAIL));
+		production(Rule.EXPRESSION1_TAIL);
+		production(Rule.EXPRESSION2, r(Rule.EXPRESSION3), r(Rule.EXPRESSION2_TAIL));
+		production(Rule.EXPRESSION2_TAIL, r(Rule.OP2), r(Rule.EXPRESSION3),
+				a(Action.BINARY), r(Rule.EXPRESSION2_TAIL));
+		production(Rule.EXPRESSION2_TAIL);
+		production(Rule.EXPRESSION3, a(Action.MARK), t(Kind.NOT), r(Rule.EXPRESSION3),
+				a(Action.NOT));
+		production(Rule.EXPRESSION3, t(Kind.OPEN_PAREN), r(Rule.EXPRESSION0),
+				t(Kind.CLOSE_PAREN));
+		production(Rule.EXPRESSION3, a(Action.MARK), a(Action.RESOLVE_CURRENT),
+				r(Rule.DESIGNATOR), a(Action.DEREFERENCE));
+		production(Rule.EXPRESSION3, r(Rule.CALL_EXPRESSION));
+		production(Rule.EXPRESSION3, r(Rule.LITERAL));
+
+		for (Kind kind : new Kind[] { Kind.INTEGER, Kind.FLOAT, Kind.TRUE, Kind.FALSE })
+			production(Rule.LITERAL, keep(kind), a(Action.LITERAL));
+		for (Kind kind : new Kind[] { Kind.GREATER_EQUAL, Kind.LESSER_EQUAL,
+				Kind.NOT_EQUAL, Kind.EQUAL, Kind.GREATER_THAN, Kind.LESS_THAN })
+			production(Rule.OP0, keep(kind));
+		for (Kind kind : new Kind[] { Kind.ADD, Kind.SUB, Kind.OR })
+			production(Rule.OP1, keep(kind));
+		for (Kind kind : new Kind[] { Kind.MUL, Kind.DIV, Kind.AND })
+			production(Rule.OP2, keep(kind));
+	}
+
+	private static final int[][] BODIES = bodies.toArray(new int[bodies.size()][]);
+
+	// nullable[rule], first[rule][kind] and follow[rule][kind]
+	private static final boolean[] nullable = new boolean[RULES.length];
+	private static final boolean[][] first = new boolean[RULES.length][KINDS.length];
+	private static final boolean[][] follow = new boolean[RULES.length][KINDS.length];
+
+	// PREDICT[rule * KINDS.length + kind] is the production to expand rule
+	// with when kind is next, or -1
+	private static final int[] PREDICT = new int[RULES.length * KINDS.length];
+
+	static
+	{
+		computeFirstSets();
+		computeFollowSets();
+		buildPredictionTable();
+	}
+
+	private static void computeFirstSets()
+	{
+		boolean changed = true;
+		while (changed)
+		{
+			changed = false;
+			for (int p = 0; p < BODIES.length; p++)
+			{
+				int head = heads.get(p).ordinal();
+				boolean[] set = first[head];
+				boolean allNullable = true;
+				for (int symbol : BODIES[p])
+				{
+					if (isAction(symbol))
+						continue;
+					if (!isRule(symbol))
+					{
+						changed |= add(set, kindOrdinal(symbol));
+						allNullable = false;
+						break;
+					}
+					int rule = symbol - RULE;
+					changed |= addAll(set, first[rule]);
+					if (!nullable[rule])
+					{
+						allNullable = false;
+						break;
+					}
+				}
+				if (allNullable && !nullable[head])
+				{
+					nullable[head] = true;
+					changed = true;
+				}
+			}
+		}
+	}
+
+	private static void computeFollowSets()
+	{
+		boolean changed = true;
+		while (changed)
+		{
+			changed = false;
+			for (int p = 0; p < BODIES.length; p++)
+			{
+				int head = heads.get(p).ordinal();
+				int[] body = BODIES[p];
+				for (int i = 0; i < body.length; i++)
+				{
+					if (!isRule(body[i]))
+						continue;
+					boolean[] set = follow[body[i] - RULE];
+
+					// FIRST of what comes after the rule, and FOLLOW of the
+					// head if all of that can be empty
+					boolean restNullable = true;
+					for (int j = i + 1; j < body.length && restNullable; j++)
+					{
+						int symbol = body[j];
+						if (isAction(symbol))
+							continue;
+						if (!isRule(symbol))
+						{
+							changed |= add(set, kindOrdinal(symbol));
+							restNullable = false;
+						}
+						else
+						{
+							changed |= addAll(set, first[symbol - RULE]);
+							restNullable = nullable[symbol - RULE];
+						}
+					}
+					if (restNullable)
+						changed |= addAll(set, follow[head]);
+				}
+			}
+		}
+	}
+
+	private static void buildPredictionTable()
+	{
+		for (int i = 0; i < PREDICT.length; i++)
+			PREDICT[i] = -1;
+
+		for (int p = 0; p < BODIES.length; p++)
+		{
+			int head = heads.get(p).ordinal();
+			boolean[] predicts = firstOfBody(BODIES[p]);
+			if (nullableBody(BODIES[p]))
+				addAll(predicts, follow[head]);
+
+			for (int kind = 0; kind < KINDS.length; kind++)
+			{
+				if (!predicts[kind])
+					continue;
+				int slot = head * KINDS.length + kind;
+				if (PREDICT[slot] >= 0)
+					throw new AssertionError("Crux grammar is not LL(1): " + RULES[head]
+							+ " on " + KINDS[kind]);
+				PREDICT[slot] = p;
+			}
+		}
+
+		// Where a rule has no entry for a token, expand it with its empty
+		// production, or with its only production, anyway. The error is then
+		// reported by the terminal that does not match, exactly where the
+		// recursive descent parser reports it.
+		for (int rule = 0; rule < RULES.length; rule++)
+		{
+			int fallback = -1;
+			int count = 0;
+			for (int p = 0; p < BODIES.length; p++)
+			{
+				if (heads.get(p).ordinal() != rule)
+					continue;
+				count++;
+				if (nullableBody(BODIES[p]))
+					fallback = p;
+				else if (fallback < 0)
+					fallback = p;
+			}
+			if (count > 1 && !nullable[rule])
+				continue;
+
+			for (int kind = 0; kind < KINDS.length; kind++)
+				if (PREDICT[rule * KINDS.length + kind] < 0)
+					PREDICT[rule * KINDS.length + kind] = fallback;
+		}
+	}
+
+	private static boolean[] firstOfBody(int[] body)
+	{
+		boolean[] set = new boolean[KINDS.length];
+		for (int symbol : body)
+		{
+			if (isAction(symbol))
+				continue;
+			if (!isRule(symbol))
+			{
+				set[kindOrdinal(symbol)] = true;
+				break;
+			}
+			addAll(set, first[symbol - RULE]);
+			if (!nullable[symbol - RULE])
+				break;
+		}
+		return set;
+	}
+
+	private static boolean nullableBody(int[] body)
+	{
+		for (int symbol : body)
+		{
+			if (isAction(symbol))
+				continue;
+			if (!isRule(symbol) || !nullable[symbol - RULE])
+				return false;
+		}
+		return true;
+	}
+
+	private static boolean add(boolean[] set, int kind)
+	{
+		if (set[kind])
+			return false;
+		set[kind] = true;
+		return true;
+	}
+
+	private static boolean addAll(boolean[] set, boolean[] other)
+	{
+		boolean changed = false;
+		for (int i = 0; i < set.length; i++)
+			if (other[i] && !set[i])
+				changed = set[i] = true;
+		return changed;
+	}
+
+	private static int kindOrdinal(int symbol)
+	{
+		return symbol < KEEP ? symbol : symbol - KEEP;
+	}
+
+	// Symbol access for the parser ==========================================
+
+	static int start()
+	{
+		return r(Rule.PROGRAM);
+	}
+
+	static int symbol(Rule rule)
+	{
+		return r(rule);
+	}
+
+	static boolean isTerminal(int symbol)
+	{
+		return symbol < KEEP;
+	}
+
+	static boolean isKept(int symbol)
+	{
+		return symbol >= KEEP && symbol < RULE;
+	}
+
+	static boolean isRule(int symbol)
+	{
+		return symbol >= RULE && symbol < ACTION;
+	}
+
+	static boolean isAction(int symbol)
+	{
+		return symbol >= ACTION;
+	}
+
+	static Kind kind(int symbol)
+	{
+		return KINDS[kindOrdinal(symbol)];
+	}
+
+	static Rule rule(int symbol)
+	{
+		return RULES[symbol - RULE];
+	}
+
+	static Action action(int symbol)
+	{
+		return ACTIONS[symbol - ACTION];
+	}
+
+	// the body to replace rule with when kind is next, or null if kind
+	// cannot start or follow the rule
+	static int[] predict(Rule rule, Kind kind)
+	{
+		int production = PREDICT[rule.ordinal() * KINDS.length + kind.ordinal()];
+		return production < 0 ? null : BODIES[production];
+	}
+
+	// FIRST and FOLLOW sets, the synchronizing tokens of error recovery
+	static boolean starts(Rule rule, Kind kind)
+	{
+		return first[rule.ordinal()][kind.ordinal()];
+	}
+
+	static boolean follows(Rule rule, Kind kind)
+	{
+		return follow[rule.ordinal()][kind.ordinal()];
+	}
+}
@@ -0,0 +1,111 @@
+package crux;
+
+// Lexemes of one compilation, kept as (offset, length) slices of the shared
+// source buffer. A String is only built when a token's lexeme is asked for,
+// and every distinct identifier is built once and then shared by all tokens
+// that spell it.
+// Not thread-safe: lexemes are materialized by the single consumer of the
+// token stream (normally the Parser). A consumer on another thread gets
+// Lexemes of its own from share().
+class Lexemes
+{
+	private static final int INITIAL_CAPACITY = 256;
+
+	private SourceBuffer source;
+	private LineTable lines;	// built on first use
+
+	// open addressing table of interned identifiers
+	private String[] names;
+	private int[] hashes;
+	private int count;
+
+	Lexemes(SourceBuffer source)
+	{
+		this.source = source;
+		this.names = new String[INITIAL_CAPACITY];
+		this.hashes = new int[INITIAL_CAPACITY];
+		this.count = 0;
+	}
+
+	// Lexemes of the same source for another thread: the line table is
+	// shared, identifiers are interned again
+	Lexemes share()
+	{
+		Lexemes shared = new Lexemes(source);
+		shared.lines = lines().share();
+		return shared;
+	}
+
+	public SourceBuffer source()
+	{
+		return source;
+	}
+
+	public LineTable lines()
+	{
+		if (lines == null)
+			lines = new LineTable(source);
+		return lines;
+	}
+
+	public String slice(int offset, int length)
+	{
+		return source.substring(offset, length);
+	}
+
+	public String identifier(int offset, int length)
+	{
+		// same hash as String.hashCode, computed without building the String
+		int hash = 0;
+		for (int i = 0; i < length; i++)
+			hash = 31 * hash + source.charAt(offset + i);
+
+		int mask = names.length - 1;
+		int slot = hash & mask;
+		while (names[slot] != null)
+		{
+			if (hashes[slot] == hash && matches(names[slot], offset, length))
+				return names[slot];
+			slot = (slot + 1) & mask;
+		}
+
+		String name = source.substring(offset, length);
+		names[slot] = name;
+		hashes[slot] = hash;
+		if (++count * 2 > names.length)
+			grow();
+
+		return name;
+	}
+
+	private boolean matches(String name, int offset, int length)
+	{
+		if (name.length() != length)
+			return false;
+		for (int i = 0; i < length; i++)
+			if (name.charAt(i) != source.charAt(offset + i))
+				return false;
+		return true;
+	}
+
+	private void grow()
+	{
+		String[] oldNames = names;
+		int[] oldHashes = hashes;
+
+		names = new String[oldNames.length * 2];
+		hashes = new int[oldNames.length * 2];
+		int mask = names.length - 1;
+
+		for (int i = 0; i < oldNames.length; i++)
+		{
+			if (oldNames[i] == null)
+				continue;
+			int slot = oldHashes[i] & mask;
+			while (names[slot] != null)
+				slot = (slot + 1) & mask;
+			names[slot] = oldNames[i];
+			hashes[slot] = oldHashes[i];
+		}
+	}
+}
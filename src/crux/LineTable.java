@@ -0,0 +1,94 @@
+package crux;
+
+// Start offset of every line of a source, built in one pass the first time
+// a position has to be turned into a (line, column) pair.
+// Lookups remember the line they found last: positions are nearly always
+// asked for in source order, so most lookups are answered without the
+// binary search.
+// Not thread-safe, like the Lexemes that own it; share() gives another
+// thread a table of its own over the same line starts.
+public class LineTable
+{
+	private int[] lineStarts;
+	private int lineCount;
+	private int lastLine;	// index of the line found by the previous lookup
+
+	LineTable(SourceBuffer source)
+	{
+		int length = source.length();
+		lineStarts = new int[Math.max(16, length / 32)];
+		lineStarts[0] = 0;
+		lineCount = 1;
+
+		for (int i = 0; i < length; i++)
+		{
+			if (source.charAt(i) != '\n')
+				continue;
+
+			if (lineCount == lineStarts.length)
+			{
+				int[] grown = new int[lineStarts.length * 2];
+				System.arraycopy(lineStarts, 0, grown, 0, lineCount);
+				lineStarts = grown;
+			}
+			lineStarts[lineCount++] = i + 1;
+		}
+		lastLine = 0;
+	}
+
+	private LineTable(int[] lineStarts, int lineCount)
+	{
+		this.lineStarts = lineStarts;
+		this.lineCount = lineCount;
+		this.lastLine = 0;
+	}
+
+	// the same lines with a lookup cursor of its own; the line starts are
+	// never written after construction, so they can be read by many threads
+	LineTable share()
+	{
+		return new LineTable(lineStarts, lineCount);
+	}
+
+	public int lineCount()
+	{
+		return lineCount;
+	}
+
+	// line of the character at offset, counting from 1
+	public int lineNumber(int offset)
+	{
+		return findLine(offset) + 1;
+	}
+
+	// position of the character at offset within its line, counting from 1
+	public int charPosition(int offset)
+	{
+		return offset - lineStarts[findLine(offset)] + 1;
+	}
+
+	private int findLine(int offset)
+	{
+		if (offset >= lineStarts[lastLine]
+				&& (lastLine + 1 == lineCount || offset < lineStarts[lastLine + 1]))
+			return lastLine;
+
+		// the line right after the last one is the next most likely
+		int next = lastLine + 1;
+		if (next < lineCount && offset >= lineStarts[next]
+				&& (next + 1 == lineCount || offset < lineStarts[next + 1]))
+			return lastLine = next;
+
+		int low = 0;
+		int high = lineCount - 1;
+		while (low < high)
+		{
+			int middle = (low + high + 1) >>> 1;
+			if (lineStarts[middle] <= offset)
+				low = middle;
+			else
+				high = middle - 1;
+		}
+		return lastLine = low;
+	}
+}
@@ -0,0 +1,240 @@
+package crux;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import mips.Program;
+import types.ArrayType;
+import types.ErrorType;
+import types.FuncType;
+import types.Type;
+import types.TypeChecker;
+import types.TypeList;
+
+// A separately compiled library: its interface, the global variables and
+// arrays and the function signatures its importers are checked against, and
+// its assembly, linked into every program that imports it.
+// "Compiler -library util.crx" writes util.crxi, "Compiler -import
+// util.crxi main.crx" reads it, so util.crx is not lexed, parsed or checked
+// again. Every compilation reads its own Module, the symbols in it belong
+// to that compilation's parser.
+public class Module
+{
+	public static final String SUFFIX = ".crxi";
+	private static final int MAGIC = 0x43525849;	// "CRXI"
+
+	private String name;
+	private List<String> requires = new ArrayList<String>();
+	private List<Symbol> symbols = new ArrayList<Symbol>();	// in declaration order
+	private List<FuncType> signatures = new ArrayList<FuncType>();	// null for a global
+	private List<String> data = new ArrayList<String>();
+	private List<String> code = new ArrayList<String>();
+
+	private Module(String name)
+	{
+		this.name = name;
+	}
+
+	// the module a source file compiles to, named after the file; the name
+	// is part of its labels, so it only keeps what a label can hold
+	public static String moduleName(File source)
+	{
+		String name = source.getName();
+		if (name.endsWith(".crx"))
+			name = name.substring(0, name.length() - ".crx".length());
+		return name.replaceAll("[^A-Za-z0-9_]", "_");
+	}
+
+	// the module of a library whose program has just been generated: the
+	// symbols it declared, their types as checked, and its assembly
+	public static Module of(String name, List<Module> imports, List<Symbol> declared,
+			TypeChecker typeChecker, Program program)
+	{
+		Module module = new Module(name);
+		for (Module imported : imports)
+			module.requires.add(imported.name);
+		for (Symbol symbol : declared)
+		{
+			module.symbols.add(symbol);
+			module.signatures.add(symbol.kind() == Symbol.Kind.FUNCTION
+					? typeChecker.functionType(symbol) : null);
+		}
+		module.data.addAll(program.dataSegment());
+		module.code.addAll(program.codeSegment());
+		return module;
+	}
+
+	public String name()
+	{
+		return name;
+	}
+
+	// the modules this one was compiled against, which its code calls into
+	public List<String> requires()
+	{
+		return requires;
+	}
+
+	public List<Symbol> symbols()
+	{
+		return symbols;
+	}
+
+	// the signature of the function symbols().get(index), null for a global
+	public FuncType signature(int index)
+	{
+		return signatures.get(index);
+	}
+
+	public List<String> data()
+	{
+		return data;
+	}
+
+	public List<String> code()
+	{
+		return code;
+	}
+
+	public void write(File file) throws IOException
+	{
+		DataOutputStream out = new DataOutputStream(
+				new BufferedOutputStream(new FileOutputStream(file)));
+		try
+		{
+			out.writeInt(MAGIC);
+			out.writeUTF(Compiler.VERSION);
+			out.writeUTF(name);
+			writeStrings(out, requires);
+
+			out.writeInt(symbols.size());
+			for (int i = 0; i < symbols.size(); i++)
+			{
+				Symbol symbol = symbols.get(i);
+				FuncType signature = signatures.get(i);
+				out.writeUTF(symbol.name());
+				out.writeBoolean(signature != null);
+				writeType(out, symbol.type());
+				if (signature != null)
+				{
+					List<Type> arguments = new ArrayList<Type>();
+					for (Type argument : signature.arguments())
+						arguments.add(argument);
+					out.writeInt(arguments.size());
+					for (Type argument : arguments)
+						writeType(out, argument);
+				}
+			}
+
+			writeStrings(out, data);
+			writeStrings(out, code);
+		}
+		finally
+		{
+			out.close();
+		}
+	}
+
+	public static Module read(File file) throws IOException
+	{
+		DataInputStream in = new DataInputStream(
+				new BufferedInputStream(new FileInputStream(file)));
+		try
+		{
+			if (in.readInt() != MAGIC)
+				throw new IOException("Not a module interface file: " + file);
+			String version = in.readUTF();
+			if (!version.equals(Compiler.VERSION))
+				throw new IOException("Module " + file + " was compiled by " + version
+						+ ", compile it again");
+
+			Module module = new Module(in.readUTF());
+			readStrings(in, module.requires);
+
+			int count = in.readInt();
+			for (int i = 0; i < count; i++)
+			{
+				Symbol symbol = new Symbol(in.readUTF());
+				boolean function = in.readBoolean();
+				symbol.setType(readType(in));
+				FuncType signature = null;
+				if (function)
+				{
+					TypeList arguments = new TypeList();
+					for (int n = in.readInt(); n > 0; n--)
+						arguments.append(readType(in));
+					signature = new FuncType(arguments, symbol.type());
+				}
+				// the importing parser gives it its slot
+				symbol.setSlot(function ? Symbol.Kind.FUNCTION : Symbol.Kind.GLOBAL, -1);
+				module.symbols.add(symbol);
+				module.signatures.add(signature);
+			}
+
+			readStrings(in, module.data);
+			readStrings(in, module.code);
+			return module;
+		}
+		finally
+		{
+			in.close();
+		}
+	}
+
+	// a base type by name, an array as its extent and base
+	private static void writeType(DataOutputStream out, Type type) throws IOException
+	{
+		if (type instanceof ArrayType)
+		{
+			ArrayType array = (ArrayType) type;
+			out.writeByte('[');
+			out.writeInt(array.extent());
+			writeType(out, array.base());
+		}
+		else
+		{
+			out.writeByte('t');
+			out.writeUTF(type.toString());
+		}
+	}
+
+	private static Type readType(DataInputStream in) throws IOException
+	{
+		int tag = in.readByte();
+		if (tag == '[')
+		{
+			int extent = in.readInt();
+			return new ArrayType(extent, readType(in));
+		}
+		if (tag != 't')
+			throw new IOException("Corrupt module interface file");
+
+		Type type = Type.getBaseType(in.readUTF());
+		if (type instanceof ErrorType)
+			throw new IOException("Corrupt module interface file");
+		return type;
+	}
+
+	private static void writeStrings(DataOutputStream out, List<String> strings)
+			throws IOException
+	{
+		out.writeInt(strings.size());
+		for (String string : strings)
+			out.writeUTF(string);
+	}
+
+	private static void readStrings(DataInputStream in, List<String> strings)
+			throws IOException
+	{
+		for (int n = in.readInt(); n > 0; n--)
+			strings.add(in.readUTF());
+	}
+}
@@ -174,13 +174,24 @@ public enum NonTerminal {
            
     public final HashSet<Token.Kind> firstSet = new HashSet<Token.Kind>();
 
+    // firstSet indexed by Token.Kind ordinal, so the parser's decisions are
+    // an array load rather than a hash lookup
+    private final boolean[] starts = new boolean[Token.Kind.values().length];
+
     NonTerminal(HashSet<Token.Kind> t)
     {
         firstSet.addAll(t);
+        for (Token.Kind kind : t)
+            starts[kind.ordinal()] = true;
     }
     
     public final Set<Token.Kind> firstSet()
     {
         return firstSet;
     }
+
+    public final boolean startsWith(Token.Kind kind)
+    {
+        return starts[kind.ordinal()];
+    }
 }
@@ -0,0 +1,113 @@
+package crux;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+// Lexes very large sources on several threads.
+// Crux tokens never span a newline ("//" comments stop at one), so the
+// source is cut into chunks at line boundaries, every chunk is lexed on its
+// own, and the chunk token streams are stitched back together.
+public class ParallelLexer
+{
+	// below this size handing chunks to threads costs more than it saves
+	public static final int SEQUENTIAL_THRESHOLD = 1024 * 1024;
+
+	// more chunks than threads evens out chunks that lex slower
+	private static final int CHUNKS_PER_THREAD = 4;
+
+	public static TokenBuffer lex(SourceBuffer source)
+	{
+		return lex(source, Runtime.getRuntime().availableProcessors());
+	}
+
+	public static TokenBuffer lex(SourceBuffer source, int threads)
+	{
+		if (threads <= 1 || source.length() < SEQUENTIAL_THRESHOLD)
+			return TokenBuffer.lex(source);
+
+		Lexemes lexemes = new Lexemes(source);
+		List<Chunk> chunks = split(source, lexemes, threads * CHUNKS_PER_THREAD);
+
+		ExecutorService pool = Executors.newFixedThreadPool(threads);
+		try
+		{
+			List<Future<Chunk>> results = pool.invokeAll(chunks);
+
+			TokenBuffer[] tokens = new TokenBuffer[results.size()];
+			for (int i = 0; i < tokens.length; i++)
+				tokens[i] = results.get(i).get().tokens;
+
+			return TokenBuffer.concat(lexemes, tokens);
+		}
+		catch (InterruptedException e)
+		{
+			Thread.currentThread().interrupt();
+			throw new RuntimeException("Interrupted while lexing", e);
+		}
+		catch (ExecutionException e)
+		{
+			throw new RuntimeException("Could not lex source chunk", e.getCause());
+		}
+		finally
+		{
+			pool.shutdown();
+		}
+	}
+
+	// cut the source into about count chunks, each ending just after a newline
+	// (or at the end of the source)
+	private static List<Chunk> split(SourceBuffer source, Lexemes lexemes, int count)
+	{
+		List<Chunk> chunks = new ArrayList<Chunk>();
+		int length = source.length();
+		int target = Math.max(1, length / count);
+
+		int begin = 0;
+		while (begin < length)
+		{
+			int end = Math.min(length, begin + target);
+			while (end < length && source.charAt(end - 1) != '\n')
+				end++;
+
+			chunks.add(new Chunk(source, lexemes, begin, end));
+			begin = end;
+		}
+
+		// an empty source still needs its EOF
+		if (chunks.isEmpty())
+			chunks.add(new Chunk(source, lexemes, 0, 0));
+
+		return chunks;
+	}
+
+	private static class Chunk implements Callable<Chunk>
+	{
+		private SourceBuffer source;
+		private Lexemes lexemes;
+		private int begin;
+		private int end;
+
+		private TokenBuffer tokens;
+
+		Chunk(SourceBuffer source, Lexemes lexemes, int begin, int end)
+		{
+			this.source = source;
+			this.lexemes = lexemes;
+			this.begin = begin;
+			this.end = end;
+		}
+
+		@Override
+		public Chunk call()
+		{
+			TableLexer lexer = new TableLexer(source, lexemes, begin, end);
+			tokens = TokenBuffer.lex(lexer, end - begin);
+			return this;
+		}
+	}
+}
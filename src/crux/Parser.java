@@ -2,7 +2,15 @@ package crux;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 
 
@@ -42,10 +50,74 @@ public class Parser
 
 	private SymbolTable symbolTable;
 
-	// add the predefined symbols to the table
+	// the next slot of each Symbol.Kind
+	private int[] slots = new int[Symbol.Kind.values().length];
+
+	// the libraries the program is compiled against, and the slots their
+	// symbols take up
+	private List<Module> imports = new ArrayList<Module>();
+	private int[] importedSlots = new int[Symbol.Kind.values().length];
+	// the module that declares each imported name
+	private Map<String, Module> importedNames = new HashMap<String, Module>();
+
+	// global symbols before the ones the program declares
+	private int importedGlobals;
+
+	// add the predefined and imported symbols to the table
 	private void initSymbolTable()
 	{
-		symbolTable = new SymbolTable();
+		symbolTable = new SymbolTable(scopeIndex != null);
+		// addImport() let no two of them have the same name
+		for (Module module : imports)
+			for (Symbol symbol : module.symbols())
+				symbolTable.insert(symbol);
+		importedGlobals = symbolTable.globalCount();
+		System.arraycopy(importedSlots, 0, slots, 0, slots.length);
+		slots[Symbol.Kind.FUNCTION.ordinal()] += SymbolTable.getPredifinedSymbols().size();
+		if (scopeIndex != null)
+		{
+			scopeIndex = new ScopeIndex();
+			scopeIndex.add(0, 0, symbolTable.snapshot());
+		}
+	}
+
+	// declare the symbols of a separately compiled library before the
+	// program's own, and give them their slots; call before parsing.
+	// A name a built-in function or another import already has is an
+	// IllegalArgumentException, and the module is not imported.
+	public void addImport(Module module)
+	{
+		for (Symbol symbol : module.symbols())
+		{
+			String name = symbol.name();
+			for (Symbol predefined : SymbolTable.getPredifinedSymbols())
+				if (predefined.name().equals(name))
+					throw new IllegalArgumentException(name + " of module "
+							+ module.name() + " is a built-in function");
+			Module other = importedNames.get(name);
+			if (other != null)
+				throw new IllegalArgumentException(name + " of module "
+						+ module.name() + " is already declared by module " + other.name());
+		}
+		for (Symbol symbol : module.symbols())
+			importedNames.put(symbol.name(), module);
+
+		imports.add(module);
+		int predefined = SymbolTable.getPredifinedSymbols().size();
+		for (Symbol symbol : module.symbols())
+		{
+			int kind = symbol.kind().ordinal();
+			symbol.setSlot(symbol.kind(), importedSlots[kind]++
+					+ (symbol.kind() == Symbol.Kind.FUNCTION ? predefined : 0));
+		}
+	}
+
+	// the global variables, arrays and functions the program declared, in
+	// order; what a library exports
+	public List<Symbol> declaredGlobals()
+	{
+		List<Symbol> globals = symbolTable.currentScope();
+		return globals.subList(importedGlobals, globals.size());
 	}
 
 	private void enterScope()
@@ -56,6 +128,8 @@ public class Parser
 	private void exitScope()
 	{
 		symbolTable.decreseDepth();
+		if (scopeIndex != null)
+			scopeIndex.add(lineNumber(), charPosition(), symbolTable.snapshot());
 	}
 
 	private Symbol tryResolveSymbol(Token ident)
@@ -68,48 +142,85 @@ public class Parser
 		} 
 		catch (SymbolNotFoundError e) 
 		{
-			String message = reportResolveSymbolError
+			Diagnostic diagnostic = reportResolveSymbolError
 					(name, ident.lineNumber(), ident.charPosition());
-			return new ErrorSymbol(message);
+			return new ErrorSymbol(diagnostic);
 		}
 	}
 
-	private String reportResolveSymbolError(String name, int lineNum, int charPos)
+	private Diagnostic reportResolveSymbolError(String name, int lineNum, int charPos)
 	{
-		String message = "ResolveSymbolError(" + lineNum + "," + charPos + ")" +
-				"[Could not find " + name + ".]";
-		errorBuffer.append(message + "\n");
-		errorBuffer.append(symbolTable.toString() + "\n");
-		return message;
+		return report(new Diagnostic(Diagnostic.Kind.RESOLVE_SYMBOL, lineNum, charPos, name));
 	}
 
+	// a variable or an array, global in the global scope and local anywhere else
 	private Symbol tryDeclareSymbol(Token ident)
+	{
+		return tryDeclareSymbol(ident, symbolTable.getDepth() == 0
+				? Symbol.Kind.GLOBAL : Symbol.Kind.LOCAL);
+	}
+
+	private Symbol tryDeclareSymbol(Token ident, Symbol.Kind kind)
 	{
 		assert(ident.is(Token.Kind.IDENTIFIER));
 		String name = ident.lexeme();
 		try 
 		{
-			return symbolTable.insert(name);
+			Symbol symbol = symbolTable.insert(name);
+			// a function starts numbering its arguments and locals over
+			if (kind == Symbol.Kind.FUNCTION)
+			{
+				slots[Symbol.Kind.ARGUMENT.ordinal()] = 0;
+				slots[Symbol.Kind.LOCAL.ordinal()] = 0;
+			}
+			symbol.setSlot(kind, slots[kind.ordinal()]++);
+			if (scopeIndex != null)
+				scopeIndex.add(ident.lineNumber(), ident.charPosition(), symbolTable.snapshot());
+			return symbol;
 		} 
 		catch (RedeclarationError re) 
 		{
-			String message = reportDeclareSymbolError(name, ident.lineNumber(), ident.charPosition());
-			return new ErrorSymbol(message);
+			Diagnostic diagnostic = reportDeclareSymbolError(name, ident.lineNumber(), ident.charPosition());
+			return new ErrorSymbol(diagnostic);
 		}
 	}
 
-	private String reportDeclareSymbolError(String name, int lineNum, int charPos)
+	// Scope index ==========================================
+	// Tools asking what is visible at some point of the source after parsing
+	// turn on setScopeIndex(true) first; it costs a record per declaration
+	// and per scope. Bodies parsed on their own have no place in it, so the
+	// program is parsed sequentially.
+	private ScopeIndex scopeIndex;
+
+	public void setScopeIndex(boolean scopeIndex)
 	{
-		String message = "DeclareSymbolError(" + lineNum + "," + charPos + ")[" + name + " already exists.]";
-		errorBuffer.append(message + "\n");
-		errorBuffer.append(symbolTable.toString() + "\n");
-		return message;
-	}    
+		this.scopeIndex = scopeIndex ? new ScopeIndex() : null;
+	}
+
+	// the scopes of the last parse, null unless asked for
+	public ScopeIndex scopeIndex()
+	{
+		return scopeIndex;
+	}
+
+	private Diagnostic reportDeclareSymbolError(String name, int lineNum, int charPos)
+	{
+		return report(new Diagnostic(Diagnostic.Kind.DECLARE_SYMBOL, lineNum, charPos, name));
+	}
+
+	// a symbol error, with the scopes it happened in if dumps are asked for
+	private Diagnostic report(Diagnostic diagnostic)
+	{
+		if (symbolTableDumps)
+			diagnostic.setSymbolTable(symbolTable.toString());
+		diagnostics.add(diagnostic);
+		return diagnostic;
+	}
 
 	// Helper Methods ==========================================
 	private Token expectRetrieve(Token.Kind kind) throws IOException
 	{
-		Token tok = currentToken;
+		Token tok = currentToken();
 		if (accept(kind))
 			return tok;
 		String errorMessage = reportSyntaxError(kind);
@@ -119,7 +230,7 @@ public class Parser
 
 	private Token expectRetrieve(NonTerminal nt) throws IOException
 	{
-		Token tok = currentToken;
+		Token tok = currentToken();
 		if (accept(nt))
 			return tok;
 		String errorMessage = reportSyntaxError(nt);
@@ -129,53 +240,67 @@ public class Parser
 
 	// Example helper method
 	// feel free to make your own
-	private Integer expectInteger() throws NumberFormatException, IOException
+	private int expectInteger() throws IOException
 	{
-		String num = currentToken.lexeme();
-		if (expect(Token.Kind.INTEGER))
-			return Integer.valueOf(num);
-		return null;
+		return expectRetrieve(Token.Kind.INTEGER).intValue();
 	}
 
-	// Grammar Rule Reporting ==========================================
-	private int parseTreeRecursionDepth = 0;
-	private StringBuffer parseTreeBuffer = new StringBuffer();
+	// Error Reporting ==========================================
+	// Errors are kept as Diagnostics and only turned into text by
+	// errorReport(). Dumping the symbol table with every symbol error makes
+	// the report grow with errors times scope size, so it is only done with
+	// -Dcrux.symbolTableDumps=true or setSymbolTableDumps(true).
+	public static final String SYMBOL_TABLE_DUMPS_PROPERTY = "crux.symbolTableDumps";
 
-	public String parseTreeReport()
+	private Diagnostics diagnostics = new Diagnostics();
+	private boolean symbolTableDumps = Boolean.getBoolean(SYMBOL_TABLE_DUMPS_PROPERTY);
+
+	public void setSymbolTableDumps(boolean symbolTableDumps)
 	{
-		return parseTreeBuffer.toString();
+		this.symbolTableDumps = symbolTableDumps;
 	}
 
-	// Error Reporting ==========================================
-	private StringBuffer errorBuffer = new StringBuffer();
-
-
 	private String reportSyntaxError(NonTerminal nt)
 	{
-		String message = "SyntaxError(" + lineNumber() + "," + charPosition() + ")" +
-				"[Expected a token from " + nt.name() + " but got " + currentToken.kind() + ".]";
-
-		errorBuffer.append(message + "\n");
-		return message;
+		return syntaxError(new Diagnostic(Diagnostic.Kind.SYNTAX,
+				lineNumber(), charPosition(), nt, currentKind()));
 	}
 
 	private String reportSyntaxError(Token.Kind kind)
 	{
-		String message = "SyntaxError(" + lineNumber() + "," + charPosition()
-				+ ")[Expected " + kind + " but got " + currentToken.kind() + ".]";
-		errorBuffer.append(message + "\n");
+		return syntaxError(new Diagnostic(Diagnostic.Kind.SYNTAX,
+				lineNumber(), charPosition(), kind, currentKind()));
+	}
 
-		return message;
+	// an error that unwinds through several enclosing blocks is found again
+	// at the same token by each of them, it is only reported the first time
+	private String syntaxError(Diagnostic diagnostic)
+	{
+		int lineNumber = diagnostic.lineNumber();
+		int charPosition = diagnostic.charPosition();
+		if (syntaxErrors == 0 || lineNumber != lastErrorLine || charPosition != lastErrorChar)
+		{
+			diagnostics.add(diagnostic);
+			syntaxErrors++;
+			lastErrorLine = lineNumber;
+			lastErrorChar = charPosition;
+		}
+		return diagnostic.message();
 	}
 
 	public String errorReport()
 	{
-		return errorBuffer.toString();
+		return diagnostics.render();
 	}
 
 	public boolean hasError()
 	{
-		return errorBuffer.length() != 0;
+		return !diagnostics.isEmpty();
+	}
+
+	public Diagnostics diagnostics()
+	{
+		return diagnostics;
 	}
 
 	private class QuitParseException extends RuntimeException
@@ -187,13 +312,79 @@ public class Parser
 		}
 	}
 
+	// Error recovery ==========================================
+	// A syntax error abandons the statement or declaration it is in: an
+	// ast.Error takes its place, tokens are skipped up to one that can start
+	// or follow a statement (or a declaration) outside of any block, and
+	// parsing goes on, so one run reports every syntax error. After
+	// maxErrors of them the parse is given up; with 1 it stops at the first
+	// one, as it always used to.
+	public static final String MAX_ERRORS_PROPERTY = "crux.maxErrors";
+	public static final int DEFAULT_MAX_ERRORS = 100;
+
+	private int maxErrors = Integer.getInteger(MAX_ERRORS_PROPERTY, DEFAULT_MAX_ERRORS);
+	private int syntaxErrors = 0;
+	private int lastErrorLine;
+	private int lastErrorChar;
+
+	public void setMaxErrors(int maxErrors)
+	{
+		this.maxErrors = maxErrors;
+	}
+
+	private boolean canRecover()
+	{
+		return syntaxErrors < maxErrors;
+	}
+
+	// skip to a token that can start or follow rule, outside of any block
+	// that opens on the way; a SEMICOLON ends the broken part and is
+	// skipped as well
+	private void synchronize(Grammar.Rule rule) throws IOException
+	{
+		int blocks = 0;
+		while (!have(Token.Kind.EOF))
+		{
+			Token.Kind kind = currentKind();
+			if (blocks == 0 && (Grammar.starts(rule, kind) || Grammar.follows(rule, kind)))
+				return;
+
+			advance();
+			if (kind == Token.Kind.OPEN_BRACE)
+				blocks++;
+			else if (kind == Token.Kind.CLOSE_BRACE && blocks > 0)
+				blocks--;
+			else if (kind == Token.Kind.SEMICOLON && blocks == 0)
+				return;
+		}
+	}
+
+	// drop the scopes a broken statement or declaration left open
+	private void leaveScopes(int depth)
+	{
+		while (symbolTable.getDepth() > depth)
+			exitScope();
+	}
+
+	// thrown by the recursive descent methods when blocks or expressions
+	// nest deeper than RECURSION_LIMIT, parse() then starts over with the
+	// table-driven parser
+	private class NestingTooDeepException extends RuntimeException
+	{
+		private static final long serialVersionUID = 1L;
+	}
+
 	private int lineNumber()
 	{
+		if (tokens != null)
+			return tokens.lineNumber(tokenIndex);
 		return currentToken.lineNumber();
 	}
 
 	private int charPosition()
 	{
+		if (tokens != null)
+			return tokens.charPosition(tokenIndex);
 		return currentToken.charPosition();
 	}
 
@@ -201,38 +392,441 @@ public class Parser
 	private Scanner scanner;
 	private Token currentToken;
 
+	// TokenBuffer mode: the whole file is pre-lexed and read by index
+	private TokenBuffer tokens;
+	private int tokenIndex;
+	private Token materialized;	// Token built for materializedIndex, if any
+	private int materializedIndex = -1;
+
 	public Parser(Scanner scanner) throws IOException
 	{
 		this.scanner = scanner;
 		currentToken = scanner.next();
 	}
 
+	public Parser(TokenBuffer tokens)
+	{
+		this.tokens = tokens;
+		this.tokenIndex = 0;
+	}
+
+	// parse a pre-lexed file, optionally with the table-driven LL(1) parser
+	// instead of the recursive descent one
+	public Parser(TokenBuffer tokens, boolean tableDriven)
+	{
+		this(tokens);
+		this.tableDriven = tableDriven;
+	}
+
+	private Token currentToken()
+	{
+		if (tokens == null)
+			return currentToken;
+
+		if (materializedIndex != tokenIndex)
+		{
+			materialized = tokens.token(tokenIndex);
+			materializedIndex = tokenIndex;
+		}
+		return materialized;
+	}
+
+	private Token.Kind currentKind()
+	{
+		if (tokens != null)
+			return tokens.kind(tokenIndex);
+		return currentToken.kind();
+	}
+
+	private void advance() throws IOException
+	{
+		if (tokens != null)
+			tokenIndex++;
+		else
+			currentToken = scanner.next();
+	}
+
 	public Command parse() throws IOException
 	{
 		initSymbolTable();
 		try {
-			return program();
+			if (tableDriven)
+				return tableProgram();
+			try {
+				return program();
+			} catch (NestingTooDeepException e) {
+				restart();
+				return tableProgram();
+			}
 		} catch (QuitParseException q) {
 			return new ast.Error(lineNumber(), charPosition(), "Could not complete parsing.");
 		}
 	}
 
+	// Nesting ==========================================
+	// Every nested block or parenthesized expression costs the recursive
+	// descent methods a few stack frames, generated code can nest deep enough
+	// to overflow the thread stack. Past this many levels the parse is
+	// restarted with the table-driven parser, whose stack is on the heap.
+	// Only a pre-lexed TokenBuffer can be read again, a Scanner cannot.
+	private static final int RECURSION_LIMIT = 300;
+	private int nesting = 0;
+
+	private void enterNesting()
+	{
+		if (++nesting > RECURSION_LIMIT && tokens != null)
+			throw new NestingTooDeepException();
+	}
+
+	private void exitNesting()
+	{
+		nesting--;
+	}
+
+	private void restart()
+	{
+		tokenIndex = 0;
+		materializedIndex = -1;
+		nesting = 0;
+		diagnostics = new Diagnostics();
+		syntaxErrors = 0;
+		initSymbolTable();
+	}
+
+	// Parallel parsing ==========================================
+	// Function bodies are most of a program and only read the global scope,
+	// so they are parsed independently: a sequential pre-pass parses the
+	// global declarations and every function signature into the global
+	// scope and skips each body by matching its braces, then the bodies are
+	// parsed on a thread pool, each against the globals declared before it.
+	// Declarations and errors come out in source order, exactly as parse()
+	// gives them. Whatever the pre-pass cannot settle (a syntax error,
+	// unbalanced braces) starts over with parse().
+
+	// below this many tokens handing bodies to threads costs more than it saves
+	public static final int PARALLEL_THRESHOLD = 64 * 1024;
+
+	public Command parse(int threads) throws IOException
+	{
+		if (threads <= 1 || tokens == null || tableDriven
+				|| tokens.size() < PARALLEL_THRESHOLD || scopeIndex != null)
+			return parse();
+
+		initSymbolTable();
+		DeclarationList program = parallelProgram(threads);
+		if (program != null)
+			return program;
+
+		restart();
+		return parse();
+	}
+
+	// Listeners ==========================================
+	// For pipelined compilation: every top-level declaration is handed to a
+	// Listener as soon as it is parsed instead of being kept in a
+	// DeclarationList, so the later phases can start on it at once and the
+	// parser holds on to no part of the tree. Declarations stop being handed
+	// on at the first error, the program will not be compiled anyway.
+	public interface Listener
+	{
+		void declared(Declaration declaration);
+	}
+
+	private Listener listener;
+
+	// A recursive descent parse that nests too deep could not start over
+	// with declarations already handed on, so a pre-lexed file is parsed
+	// with the table-driven parser, which has no nesting limit.
+	public void parse(Listener listener) throws IOException
+	{
+		this.listener = listener;
+		initSymbolTable();
+		try {
+			if (tokens != null)
+				tableProgram();
+			else
+				program();
+		} catch (QuitParseException q) {
+			// the error is reported, nothing is left to hand on
+		} finally {
+			this.listener = null;
+		}
+	}
+
+	private void add(DeclarationList declarationList, Declaration declaration)
+	{
+		if (listener == null)
+			declarationList.add(declaration);
+		else if (diagnostics.isEmpty())
+			listener.declared(declaration);
+	}
+
+	// Lazy bodies ==========================================
+	// For consumers that only need the declarations and function signatures
+	// (interfaces, outlines, call graphs): the pre-pass of parallel parsing
+	// alone, every FunctionDefinition parses its body the first time body()
+	// is called. The errors of a body are added to errorReport() when it is
+	// parsed, so before that they are not reported.
+	public Command parseSignatures() throws IOException
+	{
+		if (tokens == null || tableDriven || scopeIndex != null)
+			return parse();
+
+		initSymbolTable();
+		DeclarationList program = signatures(new ArrayList<FunctionBody>());
+		if (program != null)
+			return program;
+
+		restart();
+		return parse();
+	}
+
+	// program() with the function bodies parsed on threads, or null if the
+	// file has to be parsed sequentially
+	private DeclarationList parallelProgram(int threads) throws IOException
+	{
+		List<FunctionBody> bodies = new ArrayList<FunctionBody>();
+		DeclarationList declarationList = signatures(bodies);
+		if (declarationList == null)
+			return null;
+
+		ExecutorService pool = Executors.newFixedThreadPool(threads);
+		try
+		{
+			// a recovered syntax error still goes to the sequential parse,
+			// which counts it against maxErrors in source order
+			for (Future<FunctionBody> result : pool.invokeAll(bodies))
+				if (result.get().statements == null || result.get().syntaxErrors > 0)
+					return null;
+		}
+		catch (InterruptedException e)
+		{
+			Thread.currentThread().interrupt();
+			throw new RuntimeException("Interrupted while parsing", e);
+		}
+		catch (ExecutionException e)
+		{
+			throw new RuntimeException("Could not parse function body", e.getCause());
+		}
+		finally
+		{
+			pool.shutdown();
+		}
+
+		// every body's errors go right after those of its signature
+		Diagnostics errors = new Diagnostics();
+		int copied = 0;
+		for (FunctionBody body : bodies)
+		{
+			errors.addAll(diagnostics, copied, body.errorsBefore);
+			errors.addAll(body.errors, 0, body.errors.count());
+			copied = body.errorsBefore;
+		}
+		errors.addAll(diagnostics, copied, diagnostics.count());
+		diagnostics = errors;
+
+		return declarationList;
+	}
+
+	// program() with every function body skipped and left to a FunctionBody,
+	// which are added to bodies; null if the skipping parse fails
+	private DeclarationList signatures(List<FunctionBody> bodies) throws IOException
+	{
+		// this first position lookup also builds the line table, before
+		// any other thread shares it
+		DeclarationList declarationList = new DeclarationList(lineNumber(), charPosition());
+
+		try
+		{
+			while (have(NonTerminal.DECLARATION))
+			{
+				if (!have(NonTerminal.FUNCTION_DEFINITION))
+				{
+					declarationList.add(declaration());
+					continue;
+				}
+
+				FunctionBody body = functionSignature();
+				if (body == null)
+					return null;
+				declarationList.add(body.definition);
+				bodies.add(body);
+			}
+			expect(Token.Kind.EOF);
+		}
+		catch (QuitParseException e)
+		{
+			return null;
+		}
+		return declarationList;
+	}
+
+	// functionDefinition() with the statement-block skipped, it is left to
+	// the returned FunctionBody; null if the block's braces do not match
+	private FunctionBody functionSignature() throws IOException
+	{
+		int lineNumber = lineNumber();
+		int charPosition = charPosition();
+
+		expect(Token.Kind.FUNC);
+		Symbol func = tryDeclareSymbol(expectRetrieve(Token.Kind.IDENTIFIER),
+				Symbol.Kind.FUNCTION);
+		expect(Token.Kind.OPEN_PAREN);
+
+		enterScope();
+		List<Symbol> args = parameterList();
+		expect(Token.Kind.CLOSE_PAREN);
+		expect(Token.Kind.COLON);
+		func.setType(type());
+
+		int end = matchingBrace(tokenIndex);
+		if (end < 0)
+			return null;
+
+		FunctionBody body = new FunctionBody(this, tokenIndex, end);
+		body.definition = new FunctionDefinition(lineNumber, charPosition,
+				func, args, body);
+
+		tokenIndex = end + 1;
+		exitScope();
+		return body;
+	}
+
+	// index of the CLOSE_BRACE matching the OPEN_BRACE at begin, or -1
+	private int matchingBrace(int begin)
+	{
+		if (!tokens.is(begin, Token.Kind.OPEN_BRACE))
+			return -1;
+
+		int open = 0;
+		for (int i = begin; i < tokens.size(); i++)
+		{
+			if (tokens.is(i, Token.Kind.OPEN_BRACE))
+				open++;
+			else if (tokens.is(i, Token.Kind.CLOSE_BRACE) && --open == 0)
+				return i;
+		}
+		return -1;
+	}
+
+	// the statement-block of one function, parsed by a Parser of its own,
+	// either on a pool thread by call() or on first use by parse()
+	private static class FunctionBody implements Callable<FunctionBody>, FunctionDefinition.Body
+	{
+		private Parser owner;
+		private int begin;		// OPEN_BRACE
+		private int end;		// matching CLOSE_BRACE
+		private SymbolTable globals;
+		private int visibleGlobals;
+		private List<Symbol> scope;		// the parameters as declared
+		private int errorsBefore;		// number of the owner's errors
+		private FunctionDefinition definition;
+
+		// set by call(), statements stay null if the body cannot be parsed
+		// on its own
+		private boolean parsed;
+		private StatementList statements;
+		private Diagnostics errors;
+		private int syntaxErrors;
+
+		FunctionBody(Parser owner, int begin, int end)
+		{
+			this.owner = owner;
+			this.begin = begin;
+			this.end = end;
+			this.globals = owner.symbolTable;
+			this.visibleGlobals = owner.symbolTable.globalCount();
+			this.scope = owner.symbolTable.currentScope();
+			this.errorsBefore = owner.diagnostics.count();
+		}
+
+		@Override
+		public FunctionBody call() throws IOException
+		{
+			Parser parser = parser();
+			try
+			{
+				StatementList body;
+				try
+				{
+					body = parser.statementBlock();
+				}
+				catch (NestingTooDeepException e)
+				{
+					parser = parser();
+					body = (StatementList) parser.tableParse(
+							Grammar.symbol(Grammar.Rule.STATEMENT_BLOCK));
+				}
+				if (parser.tokenIndex == end + 1)
+					statements = body;
+			}
+			catch (QuitParseException e)
+			{
+				// the error is in the parser's diagnostics
+			}
+			errors = parser.diagnostics;
+			syntaxErrors = parser.syntaxErrors;
+			parsed = true;
+			return this;
+		}
+
+		// a parser positioned at the body, in the scope of its parameters
+		private Parser parser()
+		{
+			Parser parser = new Parser(owner.tokens.share());
+			parser.maxErrors = owner.maxErrors;
+			parser.symbolTableDumps = owner.symbolTableDumps;
+			parser.symbolTable = new SymbolTable(globals, visibleGlobals);
+			parser.enterScope();
+			for (Symbol parameter : scope)
+				parser.symbolTable.declare(parameter);
+			parser.tokenIndex = begin;
+			return parser;
+		}
+
+		// FunctionDefinition.body() of a lazily parsed function, a body that
+		// cannot be parsed on its own is empty
+		@Override
+		public synchronized StatementList parse()
+		{
+			if (parsed)
+				return statements;
+
+			try
+			{
+				call();
+			}
+			catch (IOException e)
+			{
+				// a TokenBuffer is never read from a stream
+				throw new RuntimeException(e);
+			}
+			if (statements == null)
+				statements = new StatementList(owner.tokens.lineNumber(begin),
+						owner.tokens.charPosition(begin));
+			owner.diagnostics.addAll(errors, 0, errors.count());
+			return statements;
+		}
+	}
+
 	// Helper Methods ==========================================
 	private boolean have(Token.Kind kind)
 	{
+		if (tokens != null)
+			return tokens.is(tokenIndex, kind);
 		return currentToken.is(kind);
 	}
 
 	private boolean have(NonTerminal nt)
 	{
-		return nt.firstSet().contains(currentToken.kind());
+		return nt.startsWith(currentKind());
 	}
 
 	private boolean accept(Token.Kind kind) throws IOException
 	{
 		if (have(kind)) 
 		{
-			currentToken = scanner.next();
+			advance();
 			return true;
 		}
 		return false;
@@ -248,7 +842,7 @@ public class Parser
 	{
 		if (have(nt)) 
 		{
-			currentToken = scanner.next();
+			advance();
 			return true;
 		}
 		return false;
@@ -272,6 +866,365 @@ public class Parser
 		//return false;
 	}
 
+	// Table-driven parsing ==============================================
+	// The same language and the same AST as the recursive descent methods
+	// below, driven by the LL(1) prediction table of Grammar and an explicit
+	// stack of grammar symbols. Nodes under construction live on a value
+	// stack, and the source positions they are created at on a mark stack.
+	private boolean tableDriven;
+	private ArrayList<Object> values;
+	private int[] marks;
+	private int markCount;
+
+	private DeclarationList tableProgram() throws IOException
+	{
+		return (DeclarationList) tableParse(Grammar.start());
+	}
+
+	// Error recovery keeps one recovery point per STATEMENT or DECLARATION
+	// being parsed, RECOVERY_FIELDS ints each: the stack height below its
+	// body, and the value stack, mark stack and scope depth to go back to,
+	// its position and rule. The point is dropped once the stack is back at
+	// that height, and an error returns to the innermost point and leaves an
+	// ast.Error for the ADD_STATEMENT or ADD_DECLARATION below it, just as
+	// statementList() and declarationList() do.
+	private static final int RECOVERY_FIELDS = 7;
+
+	// parse what the grammar symbol start derives, and return its node
+	private Object tableParse(int start) throws IOException
+	{
+		int[] stack = new int[64];
+		int top = 0;
+		stack[top++] = start;
+		values = new ArrayList<Object>();
+		marks = new int[64];
+		markCount = 0;
+		int[] recovery = new int[16 * RECOVERY_FIELDS];
+		int recoveries = 0;
+
+		while (top > 0)
+		{
+			while (recoveries > 0 && recovery[recoveries - RECOVERY_FIELDS] == top)
+				recoveries -= RECOVERY_FIELDS;
+
+			int symbol = stack[--top];
+			try
+			{
+				if (Grammar.isTerminal(symbol))
+					expect(Grammar.kind(symbol));
+				else if (Grammar.isKept(symbol))
+					values.add(expectRetrieve(Grammar.kind(symbol)));
+				else if (Grammar.isAction(symbol))
+					perform(Grammar.action(symbol));
+				else
+				{
+					Grammar.Rule rule = Grammar.rule(symbol);
+					int[] body = Grammar.predict(rule, currentKind());
+					if (body == null)
+						throw new QuitParseException(reportSyntaxError(rule.reported));
+
+					if (rule == Grammar.Rule.STATEMENT || rule == Grammar.Rule.DECLARATION)
+					{
+						if (recoveries == recovery.length)
+						{
+							int[] grown = new int[recovery.length * 2];
+							System.arraycopy(recovery, 0, grown, 0, recoveries);
+							recovery = grown;
+						}
+						recovery[recoveries++] = top;
+						recovery[recoveries++] = values.size();
+						recovery[recoveries++] = markCount;
+						recovery[recoveries++] = symbolTable.getDepth();
+						recovery[recoveries++] = lineNumber();
+						recovery[recoveries++] = charPosition();
+						recovery[recoveries++] = rule.ordinal();
+					}
+
+					if (top + body.length > stack.length)
+					{
+						int[] grown = new int[Math.max(stack.length * 2, top + body.length)];
+						System.arraycopy(stack, 0, grown, 0, top);
+						stack = grown;
+					}
+					for (int i = body.length - 1; i >= 0; i--)
+						stack[top++] = body[i];
+				}
+			}
+			catch (QuitParseException e)
+			{
+				if (!canRecover())
+					throw e;
+
+				if (recoveries == 0)
+				{
+					// only the EOF of PROGRAM is outside of every declaration:
+					// skip to a declaration and go on with the list
+					if (start != Grammar.start() || top != 0)
+						throw e;
+					add((DeclarationList) peek(0), new ast.Error(lineNumber(),
+							charPosition(), e.getMessage()));
+					synchronize(Grammar.Rule.DECLARATION);
+					stack[top++] = symbol;
+					stack[top++] = Grammar.symbol(Grammar.Rule.DECLARATIONS);
+					continue;
+				}
+
+				recoveries -= RECOVERY_FIELDS;
+				top = recovery[recoveries];
+				values.subList(recovery[recoveries + 1], values.size()).clear();
+				markCount = recovery[recoveries + 2];
+				leaveScopes(recovery[recoveries + 3]);
+				values.add(new ast.Error(recovery[recoveries + 4],
+						recovery[recoveries + 5], e.getMessage()));
+				synchronize(Grammar.Rule.values()[recovery[recoveries + 6]]);
+			}
+		}
+		return pop();
+	}
+
+	private Object pop()
+	{
+		return values.remove(values.size() - 1);
+	}
+
+	private Object peek(int depth)
+	{
+		return values.get(values.size() - 1 - depth);
+	}
+
+	private void mark()
+	{
+		if (markCount + 2 > marks.length)
+		{
+			int[] grown = new int[marks.length * 2];
+			System.arraycopy(marks, 0, grown, 0, markCount);
+			marks = grown;
+		}
+		marks[markCount++] = lineNumber();
+		marks[markCount++] = charPosition();
+	}
+
+	private int markedLine()
+	{
+		return marks[markCount - 2];
+	}
+
+	private int markedChar()
+	{
+		return marks[markCount - 1];
+	}
+
+	private void unmark()
+	{
+		markCount -= 2;
+	}
+
+	private void perform(Grammar.Action action)
+	{
+		Object value;
+		switch (action)
+		{
+		case MARK:
+			mark();
+			break;
+		case DECLARATION_LIST:
+			values.add(new DeclarationList(lineNumber(), charPosition()));
+			break;
+		case ADD_DECLARATION:
+			value = pop();
+			add((DeclarationList) peek(0), (Declaration) value);
+			break;
+		case STATEMENT_LIST:
+			values.add(new StatementList(lineNumber(), charPosition()));
+			break;
+		case ADD_STATEMENT:
+			value = pop();
+			((StatementList) peek(0)).add((Statement) value);
+			break;
+		case EXPRESSION_LIST:
+			values.add(new ExpressionList(lineNumber(), charPosition()));
+			break;
+		case ADD_EXPRESSION:
+			value = pop();
+			((ExpressionList) peek(0)).add((Expression) value);
+			break;
+		case PARAMETER_LIST:
+			values.add(new ArrayList<Symbol>());
+			break;
+		case ADD_PARAMETER:
+		{
+			value = pop();
+			@SuppressWarnings("unchecked")
+			List<Symbol> parameters = (List<Symbol>) peek(0);
+			parameters.add((Symbol) value);
+			break;
+		}
+		case DECLARE:
+			values.add(tryDeclareSymbol((Token) pop()));
+			break;
+		case DECLARE_FUNCTION:
+			values.add(tryDeclareSymbol((Token) pop(), Symbol.Kind.FUNCTION));
+			break;
+		case DECLARE_ARGUMENT:
+			values.add(tryDeclareSymbol((Token) pop(), Symbol.Kind.ARGUMENT));
+			break;
+		case RESOLVE:
+			values.add(tryResolveSymbol((Token) pop()));
+			break;
+		case RESOLVE_CURRENT:
+			tryResolveSymbol(currentToken());
+			break;
+		case RESOLVE_IF_IDENTIFIER:
+			if (have(Token.Kind.IDENTIFIER))
+				tryResolveSymbol(currentToken());
+			break;
+		case ENTER_SCOPE:
+			enterScope();
+			break;
+		case EXIT_SCOPE:
+			exitScope();
+			break;
+		case TYPE:
+			values.add(tryResolveType(((Token) pop()).lexeme()));
+			break;
+		case SET_TYPE:
+			value = pop();
+			((Symbol) peek(0)).setType((Type) value);
+			break;
+		case SET_FUNCTION_TYPE:
+			value = pop();
+			((Symbol) peek(1)).setType((Type) value);
+			break;
+		case DROP:
+			pop();
+			break;
+		case VARIABLE:
+			value = pop();
+			values.add(new VariableDeclaration(markedLine(), markedChar(), (Symbol) value));
+			values.add(value);
+			unmark();
+			break;
+		case ARRAY:
+			value = pop();
+			values.add(new ArrayDeclaration(markedLine(), markedChar(), (Symbol) value));
+			values.add(value);
+			unmark();
+			break;
+		case ARRAY_TYPE:
+		{
+			// the extents come off the stack last first
+			int[] dimensions = new int[4];
+			int count = 0;
+			while (peek(0) instanceof Token)
+				dimensions = addDimension(dimensions, count++, ((Token) pop()).intValue());
+			for (int i = 0, j = count - 1; i < j; i++, j--)
+			{
+				int extent = dimensions[i];
+				dimensions[i] = dimensions[j];
+				dimensions[j] = extent;
+			}
+			Type baseType = (Type) pop();
+			((Symbol) pop()).setType(buildArray(baseType, dimensions, count));
+			break;
+		}
+		case FUNCTION:
+		{
+			StatementList body = (StatementList) pop();
+			@SuppressWarnings("unchecked")
+			List<Symbol> parameters = (List<Symbol>) pop();
+			Symbol function = (Symbol) pop();
+			values.add(new FunctionDefinition(markedLine(), markedChar(),
+					function, parameters, body));
+			unmark();
+			break;
+		}
+		case ADDRESS:
+			// the designator's mark stays until END_DESIGNATOR, every
+			// Index node is on its line
+			values.add(new AddressOf(markedLine(), markedChar(),
+					tryResolveSymbol((Token) pop())));
+			break;
+		case INDEX:
+		{
+			Expression amount = (Expression) pop();
+			int charPosition = markedChar();
+			unmark();
+			Expression base = (Expression) pop();
+			values.add(new Index(markedLine(), charPosition, base, amount));
+			break;
+		}
+		case END_DESIGNATOR:
+			unmark();
+			break;
+		case DEREFERENCE:
+			values.add(new Dereference(markedLine(), markedChar(), (Expression) pop()));
+			unmark();
+			break;
+		case NOT:
+			values.add(new LogicalNot(markedLine(), markedChar(), (Expression) pop()));
+			unmark();
+			break;
+		case LITERAL:
+			values.add(Command.newLiteral((Token) pop()));
+			break;
+		case BINARY:
+		{
+			Expression rightSide = (Expression) pop();
+			Token operator = (Token) pop();
+			Expression leftSide = (Expression) pop();
+			values.add(Command.newExpression(leftSide, operator, rightSide));
+			break;
+		}
+		case CALL:
+		{
+			ExpressionList arguments = (ExpressionList) pop();
+			Symbol function = (Symbol) pop();
+			values.add(new Call(markedLine(), markedChar(), function, arguments));
+			unmark();
+			break;
+		}
+		case ASSIGNMENT:
+		{
+			Expression source = (Expression) pop();
+			Expression destination = (Expression) pop();
+			values.add(new Assignment(markedLine(), markedChar(), destination, source));
+			unmark();
+			break;
+		}
+		case RETURN:
+			values.add(new Return(markedLine(), markedChar(), (Expression) pop()));
+			unmark();
+			break;
+		case WHILE:
+		{
+			StatementList body = (StatementList) pop();
+			Expression condition = (Expression) pop();
+			values.add(new WhileLoop(markedLine(), markedChar(), condition, body));
+			unmark();
+			break;
+		}
+		case ELSE_LIST:
+			// an if without else still gets an (empty) else block
+			values.add(new StatementList(lineNumber(), charPosition()));
+			break;
+		case REPLACE_ELSE:
+			value = pop();
+			pop();
+			values.add(value);
+			break;
+		case IF:
+		{
+			StatementList elseBlock = (StatementList) pop();
+			StatementList thenBlock = (StatementList) pop();
+			Expression condition = (Expression) pop();
+			values.add(new IfElseBranch(markedLine(), markedChar(),
+					condition, thenBlock, elseBlock));
+			unmark();
+			break;
+		}
+		}
+	}
+
 	// Grammar Rules =====================================================
 
 	// literal := INTEGER | FLOAT | TRUE | FALSE .
@@ -284,10 +1237,10 @@ public class Parser
 
 		if (literal.kind == Kind.INTEGER)
 			return new LiteralInt(lineNumber, charPosition, 
-					Integer.parseInt(literal.lexeme()));
+					literal.intValue());
 		else if (literal.kind == Kind.FLOAT)
 			return new LiteralFloat(lineNumber, charPosition, 
-					Float.parseFloat(literal.lexeme()));
+					literal.floatValue());
 		else if (literal.kind == Kind.TRUE)
 			return new LiteralBool(lineNumber, charPosition,
 					Value.TRUE);
@@ -377,6 +1330,7 @@ public class Parser
 		int charPosition = charPosition();
 		Expression expression = null;
 
+		enterNesting();
 		if (accept (Token.Kind.NOT))
 			expression = new LogicalNot
 			(lineNumber, charPosition, 
@@ -388,7 +1342,7 @@ public class Parser
 		}
 		else if (have (NonTerminal.DESIGNATOR))
 		{
-			tryResolveSymbol(currentToken);
+			tryResolveSymbol(currentToken());
 			expression = new Dereference
 					(lineNumber, charPosition, designator());
 		}	
@@ -400,53 +1354,69 @@ public class Parser
 			expression = literal ();
 		else
 			throw new QuitParseException (reportSyntaxError(NonTerminal.EXPRESSION3));
+		exitNesting();
 
 		return expression;
 	}
 
-	// expression3 { op2 expression3 } .
-	public Expression expression2 () throws IOException
-	{		
-		Expression leftSide = expression3();
-		while ( have (NonTerminal.OP2))
-		{
-			Token operatorToken = op2 ();
-			Expression rightSide = expression3 ();
+	// Binary operators by Token.Kind ordinal: their level in the grammar
+	// (0 for op0, 1 for op1, 2 for op2), -1 for anything else
+	private static final int[] PRECEDENCE = new int[Token.Kind.values().length];
+	private static final int NOT_AN_OPERATOR = -1;
+	private static final int COMPARISON = 0;
 
-			leftSide = Command.newExpression(leftSide, operatorToken, rightSide);
+	static
+	{
+		NonTerminal[] levels = { NonTerminal.OP0, NonTerminal.OP1, NonTerminal.OP2 };
+		for (Token.Kind kind : Token.Kind.values())
+		{
+			PRECEDENCE[kind.ordinal()] = NOT_AN_OPERATOR;
+			for (int level = 0; level < levels.length; level++)
+				if (levels[level].startsWith(kind))
+					PRECEDENCE[kind.ordinal()] = level;
 		}
-		return leftSide;
 	}
 
-	// expression2 { op1  expression2 } .
-	public Expression expression1 () throws IOException
+	// Precedence climbing over expression0 .. expression2: one loop takes
+	// every operator of level minLevel or above, and the right operand of an
+	// operator of level n is parsed with minLevel n + 1, which makes op1 and
+	// op2 left associative. A comparison is not associative, at most one is
+	// taken per expression0.
+	private Expression binaryExpression(int minLevel) throws IOException
 	{
-		Expression leftSide = expression2();
+		Expression leftSide = expression3();
+		boolean compared = false;
 
-		while (have (NonTerminal.OP1))
+		while (true)
 		{
-			Token operator = op1 ();
+			int level = PRECEDENCE[currentKind().ordinal()];
+			if (level < minLevel || (level == COMPARISON && compared))
+				return leftSide;
 
-			Expression rightSide = expression2();
+			Token operator = currentToken();
+			advance();
+			Expression rightSide = binaryExpression(level + 1);
 			leftSide = Command.newExpression(leftSide, operator, rightSide);
+			compared |= level == COMPARISON;
 		}
-		return leftSide;
 	}
 
-	// expression1 [ op0 expression1 ] .
-	public Expression expression0 () throws IOException
+	// expression3 { op2 expression3 } .
+	public Expression expression2 () throws IOException
 	{
-		Expression leftSide =  expression1();
-
-		if (have (NonTerminal.OP0))
-		{	
-			Token operationToken = op0 ();
-			Expression rightSide = expression1 ();
+		return binaryExpression(2);
+	}
 
-			return Command.newExpression(leftSide, operationToken, rightSide);
-		}
+	// expression2 { op1  expression2 } .
+	public Expression expression1 () throws IOException
+	{
+		return binaryExpression(1);
+	}
 
-		return leftSide;
+	// expression1 [ op0 expression1 ] .
+	public Expression expression0 () throws IOException
+	{
+		return binaryExpression(0);
 	}
 
 	// "return" expression0 ";" 
@@ -494,7 +1464,7 @@ public class Parser
 		expect (Token.Kind.LET);
 
 		if (have(Token.Kind.IDENTIFIER))
-			tryResolveSymbol (currentToken);
+			tryResolveSymbol (currentToken());
 
 		destination = designator ();
 		expect (Token.Kind.ASSIGN);
@@ -562,7 +1532,25 @@ public class Parser
 		StatementList statementList = new StatementList(lineNumber(), charPosition());
 
 		while (have (NonTerminal.STATEMENT))
-			statementList.add(statement ());
+		{
+			int lineNumber = lineNumber();
+			int charPosition = charPosition();
+			int depth = symbolTable.getDepth();
+			int nesting = this.nesting;
+			try
+			{
+				statementList.add(statement ());
+			}
+			catch (QuitParseException e)
+			{
+				if (!canRecover())
+					throw e;
+				leaveScopes(depth);
+				this.nesting = nesting;
+				statementList.add(new ast.Error(lineNumber, charPosition, e.getMessage()));
+				synchronize(Grammar.Rule.STATEMENT);
+			}
+		}
 
 		return statementList;
 	}
@@ -572,9 +1560,11 @@ public class Parser
 	{
 		StatementList statementList = null;
 
+		enterNesting();
 		expect (Token.Kind.OPEN_BRACE);
 		statementList = statementList ();
 		expect (Token.Kind.CLOSE_BRACE);
+		exitNesting();
 
 		return statementList;
 	}
@@ -585,7 +1575,7 @@ public class Parser
 		Symbol symbol = null;
 
 		symbol = tryDeclareSymbol
-				(expectRetrieve(Token.Kind.IDENTIFIER));
+				(expectRetrieve(Token.Kind.IDENTIFIER), Symbol.Kind.ARGUMENT);
 
 		expect (Token.Kind.COLON);
 
@@ -623,7 +1613,8 @@ public class Parser
 
 		expect (Token.Kind.FUNC);
 
-		func = tryDeclareSymbol(expectRetrieve(Token.Kind.IDENTIFIER));
+		func = tryDeclareSymbol(expectRetrieve(Token.Kind.IDENTIFIER),
+				Symbol.Kind.FUNCTION);
 
 		expect (Token.Kind.OPEN_PAREN);
 
@@ -671,32 +1662,42 @@ public class Parser
 		
 		expect (Token.Kind.OPEN_BRACKET);
 		
-		ArrayList<Integer> dimensions = new ArrayList<Integer>();
-		dimensions.add(expectInteger());
+		int[] dimensions = new int[4];
+		int count = 0;
+		dimensions = addDimension(dimensions, count++, expectInteger());
 		
 		expect (Token.Kind.CLOSE_BRACKET);
 
 		while (accept (Token.Kind.OPEN_BRACKET))
 		{
 			// model multi-dimensional array
-			dimensions.add(expectInteger());
+			dimensions = addDimension(dimensions, count++, expectInteger());
 			expect (Token.Kind.CLOSE_BRACKET);
 		}
 		
-		arraySymbol.setType(buildArray(baseType, dimensions));
+		arraySymbol.setType(buildArray(baseType, dimensions, count));
 		
 		expect (Token.Kind.SEMICOLON);
 
 		return arrayDeclaration;
 	}
 	
-	private Type buildArray(Type baseType, List<Integer> dimensions)
+	// dimensions[index] = extent, in a copy twice as long if it is full
+	private static int[] addDimension(int[] dimensions, int index, int extent)
+	{
+		if (index == dimensions.length)
+			dimensions = Arrays.copyOf(dimensions, index * 2);
+		dimensions[index] = extent;
+		return dimensions;
+	}
+
+	private Type buildArray(Type baseType, int[] dimensions, int count)
 	{
 		Type array = baseType;
 
-		for (int i = dimensions.size() - 1; i >= 0; i--)
+		for (int i = count - 1; i >= 0; i--)
 		{
-			array = new ArrayType(dimensions.get(i), array );
+			array = new ArrayType(dimensions[i], array );
 			
 		}
 		
@@ -764,13 +1765,30 @@ public class Parser
 	public DeclarationList declarationList () throws IOException
 	{
 		DeclarationList declarationList = new DeclarationList(lineNumber(), charPosition());
+		addDeclarations(declarationList);
+		return declarationList;
+	}
 
+	private void addDeclarations(DeclarationList declarationList) throws IOException
+	{
 		while (have (NonTerminal.DECLARATION))
 		{
-			declarationList.add(declaration ());
+			int lineNumber = lineNumber();
+			int charPosition = charPosition();
+			try
+			{
+				add(declarationList, declaration ());
+			}
+			catch (QuitParseException e)
+			{
+				if (!canRecover())
+					throw e;
+				leaveScopes(0);
+				nesting = 0;
+				add(declarationList, new ast.Error(lineNumber, charPosition, e.getMessage()));
+				synchronize(Grammar.Rule.DECLARATION);
+			}
 		}
-
-		return declarationList;
 	}
 
 	// program := declaration-list EOF .
@@ -778,6 +1796,19 @@ public class Parser
 	{
 		ast.DeclarationList list;
 		list = declarationList ();
+
+		// a token no declaration starts with, skip to one that does
+		while (!have (Token.Kind.EOF))
+		{
+			int lineNumber = lineNumber();
+			int charPosition = charPosition();
+			String message = reportSyntaxError(Token.Kind.EOF);
+			if (!canRecover())
+				throw new QuitParseException(message);
+			add(list, new ast.Error(lineNumber, charPosition, message));
+			synchronize(Grammar.Rule.DECLARATION);
+			addDeclarations(list);
+		}
 		expect (Token.Kind.EOF);
 
 		return list;
@@ -0,0 +1,207 @@
+package crux;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+import ast.Command;
+import ast.Declaration;
+import mips.CodeGen;
+import types.Type;
+import types.TypeChecker;
+
+// Compiles a program one top-level declaration at a time: the parser hands
+// each declaration to a type checking thread, which hands it with its types
+// to a code generation thread. The stages are connected by bounded queues,
+// so a parser running ahead waits instead of piling up trees, and a
+// declaration is garbage once its code is generated: at most a queue's worth
+// of declarations is alive at any time, however long the program.
+// The errors, the generated program and what the code generator reports on
+// System.out are the ones the phases give when run one after the other:
+// the report is held back until parsing and type checking are done, and
+// dropped if either failed, as the code generator would never have run.
+public class Pipeline
+{
+	// declarations waiting between two stages
+	public static final int QUEUE_CAPACITY = 64;
+
+	private Parser parser;
+	private TypeChecker typeChecker = new TypeChecker();
+	private CodeGen codeGen = new CodeGen(typeChecker);
+
+	private BlockingQueue<Stage> checkQueue = new ArrayBlockingQueue<Stage>(QUEUE_CAPACITY);
+	private BlockingQueue<Stage> generateQueue = new ArrayBlockingQueue<Stage>(QUEUE_CAPACITY);
+
+	// a declaration on its way through, or END
+	private static class Stage
+	{
+		Declaration declaration;
+		Map<Command, Type> types;
+
+		Stage(Declaration declaration, Map<Command, Type> types)
+		{
+			this.declaration = declaration;
+			this.types = types;
+		}
+	}
+
+	private static final Stage END = new Stage(null, null);
+
+	private volatile Throwable failure;
+	private volatile boolean checkFailed;
+
+	// what the code generator reported, until it is known whether it ran
+	private ByteArrayOutputStream trace = new ByteArrayOutputStream();
+
+	public Pipeline(Parser parser)
+	{
+		this.parser = parser;
+		codeGen.setTrace(new PrintStream(trace));
+	}
+
+	public Parser parser()
+	{
+		return parser;
+	}
+
+	public TypeChecker typeChecker()
+	{
+		return typeChecker;
+	}
+
+	public CodeGen codeGen()
+	{
+		return codeGen;
+	}
+
+	// parse on this thread, check and generate on two others; returns when
+	// every declaration has been through all three
+	public void run() throws IOException
+	{
+		Thread checker = new Thread(new Runnable() {
+			public void run()
+			{
+				check();
+			}
+		}, "crux-typecheck");
+		Thread generator = new Thread(new Runnable() {
+			public void run()
+			{
+				generate();
+			}
+		}, "crux-codegen");
+		checker.start();
+		generator.start();
+
+		try
+		{
+			parser.parse(new Parser.Listener() {
+				public void declared(Declaration declaration)
+				{
+					put(checkQueue, new Stage(declaration, null));
+				}
+			});
+		}
+		finally
+		{
+			put(checkQueue, END);
+			join(checker);
+			join(generator);
+		}
+
+		if (!parser.hasError() && !typeChecker.hasError() && !checkFailed)
+		{
+			trace.writeTo(System.out);
+			System.out.flush();
+		}
+
+		if (failure instanceof RuntimeException)
+			throw (RuntimeException) failure;
+		if (failure instanceof Error)
+			throw (Error) failure;
+	}
+
+	// Every declaration is type checked, so all type errors are reported,
+	// but only the ones up to the first error are generated, CodeGen assumes
+	// a well typed tree. After a failure a stage keeps taking from its queue
+	// so the stage before it never blocks.
+	private void check()
+	{
+		for (Stage stage = take(checkQueue); stage != END; stage = take(checkQueue))
+		{
+			if (failure != null)
+				continue;
+			try
+			{
+				Map<Command, Type> types = typeChecker.checkDeclaration(stage.declaration);
+				if (!typeChecker.hasError())
+					put(generateQueue, new Stage(stage.declaration, types));
+			}
+			catch (Throwable e)
+			{
+				checkFailed = true;
+				failure = e;
+			}
+		}
+		put(generateQueue, END);
+	}
+
+	private void generate()
+	{
+		for (Stage stage = take(generateQueue); stage != END; stage = take(generateQueue))
+		{
+			if (failure != null)
+				continue;
+			try
+			{
+				codeGen.generateDeclaration(stage.declaration, stage.types);
+			}
+			catch (Throwable e)
+			{
+				failure = e;
+			}
+		}
+	}
+
+	private static void put(BlockingQueue<Stage> queue, Stage stage)
+	{
+		try
+		{
+			queue.put(stage);
+		}
+		catch (InterruptedException e)
+		{
+			Thread.currentThread().interrupt();
+			throw new RuntimeException("Interrupted while compiling", e);
+		}
+	}
+
+	private static Stage take(BlockingQueue<Stage> queue)
+	{
+		try
+		{
+			return queue.take();
+		}
+		catch (InterruptedException e)
+		{
+			Thread.currentThread().interrupt();
+			throw new RuntimeException("Interrupted while compiling", e);
+		}
+	}
+
+	private static void join(Thread thread)
+	{
+		try
+		{
+			thread.join();
+		}
+		catch (InterruptedException e)
+		{
+			Thread.currentThread().interrupt();
+			throw new RuntimeException("Interrupted while compiling", e);
+		}
+	}
+}
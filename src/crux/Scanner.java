@@ -2,6 +2,7 @@ package crux;
 import java.io.IOException;
 import java.io.Reader;
 import java.util.Iterator;
+import java.util.NoSuchElementException;
 
 import crux.Token.Kind;
 
@@ -15,6 +16,15 @@ public class Scanner implements Iterable<Token> {
 	private int nextChar; // contains the next char (-1 == EOF)
 	private Reader input;
 
+	// buffer mode: the whole source is in memory and read by offset
+	private SourceBuffer source;
+	private int offset;
+
+	// table-driven core that replaces next() when set
+	private TableLexer lexer;
+
+	// set once EOF has been handed out by iterator() or nextBatch()
+	private boolean exhausted;
 
 	
 	// nextChar has been examined
@@ -30,6 +40,26 @@ public class Scanner implements Iterable<Token> {
 
 	}	
 
+	// scan straight from an in-memory (usually memory-mapped) source
+	Scanner(SourceBuffer source)
+	{
+		this.source = source;
+
+		lineNum = 1;
+		charPos = 1;
+		offset = 0;
+		nextChar = source.charAt(offset++);
+	}
+
+	// scan from an in-memory source, optionally with the table-driven
+	// lexer core instead of the hand-written one
+	Scanner(SourceBuffer source, boolean tableDriven)
+	{
+		this(source);
+		if (tableDriven)
+			lexer = new TableLexer(source);
+	}
+
 	// OPTIONAL: helper function for reading a single char from input
 	//           can be used to catch and handle any IOExceptions,
 	//           advance the charPos or lineNum, etc.
@@ -41,7 +71,10 @@ public class Scanner implements Iterable<Token> {
 		if (nextChar == -1)	// EOF
 			return -1;
 		updateCharPosition();
-		nextChar = input.read();
+		if (source != null)
+			nextChar = source.charAt(offset++);
+		else
+			nextChar = input.read();
 
 		return nextChar;
 	}
@@ -98,6 +131,9 @@ public class Scanner implements Iterable<Token> {
 	 */
 	public Token next() throws IOException
 	{
+		if (lexer != null)
+			return lexer.next();
+
 		skipBlankSpace ();
 
 		if (nextChar == -1)	// check for EOF 
@@ -119,7 +155,8 @@ public class Scanner implements Iterable<Token> {
 					return new Token (Kind.DIV, lineNum, charPos);
 			} while ((char) nextChar == '/');
 		
-			
+			if (nextChar == -1)	// the source ends with a comment
+				return Token.EOF (this.lineNum, this.charPos);
 		}
 		// TODO: implement this
 
@@ -185,31 +222,42 @@ public class Scanner implements Iterable<Token> {
 
 	private Token parseNumber (int lineNum, int charPos) throws IOException
 	{
-
-		String number = "" + (char) nextChar;
-		nextChar = readChar ();
+		// accumulate the value of an INTEGER while reading its digits, 
+		// a value that does not fit in an int makes the token an ERROR
+		StringBuilder number = new StringBuilder ();
+		int value = 0;
+		boolean overflow = false;
 
 		while (isNumber ((char)nextChar))
 		{
-			number += (char) nextChar;
+			int digit = nextChar - '0';
+			if (value > (Integer.MAX_VALUE - digit) / 10)
+				overflow = true;
+			value = value * 10 + digit;
+
+			number.append ((char) nextChar);
 			nextChar = readChar ();
 		}
 
 		if ( ( (char) nextChar) == '.')		// Float 
 		{
-			number += (char) nextChar;
+			number.append ((char) nextChar);
 			nextChar = readChar ();
 
 			while (isNumber ((char)nextChar))
 			{
-				number += (char) nextChar;
+				number.append ((char) nextChar);
 				nextChar = readChar ();
 			}
 
-			return new Token (Kind.FLOAT, number, lineNum, charPos);
+			float floatValue = Float.parseFloat (number.toString ());
+			return new Token (Kind.FLOAT, number.toString (), 
+					Float.floatToRawIntBits (floatValue), lineNum, charPos);
 		}
+		else if (overflow)
+			return new Token (Kind.ERROR, number.toString (), lineNum, charPos);
 		else
-			return new Token (Kind.INTEGER, number, lineNum, charPos);
+			return new Token (Kind.INTEGER, number.toString (), value, lineNum, charPos);
 	}
 
 
@@ -383,7 +431,7 @@ public class Scanner implements Iterable<Token> {
 			nextChar = readChar ();
 			if ((char) nextChar == 'u')
 			{
-				lexeme += nextChar;
+				lexeme += (char) nextChar;
 				nextChar = readChar ();
 				if ((char) nextChar == 'n')
 				{
@@ -401,6 +449,7 @@ public class Scanner implements Iterable<Token> {
 			}
 			else if ((char) nextChar == 'a')		// Kind.False
 			{
+				lexeme += (char) nextChar;
 				nextChar = readChar ();
 				if ((char) nextChar == 'l')
 				{
@@ -517,7 +566,7 @@ public class Scanner implements Iterable<Token> {
 						nextChar = readChar ();
 						if ((char) nextChar == 'r')
 						{
-							lexeme += nextChar;
+							lexeme += (char) nextChar;
 							nextChar = readChar ();
 							if ((char) nextChar == 'n')
 							{
@@ -590,9 +639,63 @@ public class Scanner implements Iterable<Token> {
 	}
 
 
-	public Iterator<Token> iterator() {
-		// TODO Auto-generated method stub
-		return null;
+	// Incremental lexing for editors and watch-mode builds: returns the
+	// tokens of previous's source after [offset, offset + removedLength)
+	// is replaced by insertedText. Only the tokens around the edit are
+	// lexed again, the rest are reused with their positions shifted.
+	public static TokenBuffer relex(TokenBuffer previous, int offset,
+			int removedLength, String insertedText)
+	{
+		return previous.relex(offset, removedLength, insertedText);
+	}
+
+	// Lazily scans tokens as they are asked for, ending with the EOF token.
+	// The iterator shares this Scanner's position, so a Scanner can only
+	// be iterated once.
+	public Iterator<Token> iterator() 
+	{
+		return new Iterator<Token>() 
+		{
+			public boolean hasNext()
+			{
+				return !exhausted;
+			}
+
+			public Token next()
+			{
+				if (exhausted)
+					throw new NoSuchElementException();
+				try 
+				{
+					Token token = Scanner.this.next();
+					exhausted = token.is(Kind.EOF);
+					return token;
+				} 
+				catch (IOException e) 
+				{
+					throw new RuntimeException("Error reading source", e);
+				}
+			}
+
+			public void remove()
+			{
+				throw new UnsupportedOperationException();
+			}
+		};
+	}
+
+	// Fills dst with the next tokens and returns how many were written.
+	// A batch stops right after the EOF token, and later calls return 0.
+	public int nextBatch(Token[] dst) throws IOException
+	{
+		int count = 0;
+		while (count < dst.length && !exhausted)
+		{
+			Token token = next();
+			dst[count++] = token;
+			exhausted = token.is(Kind.EOF);
+		}
+		return count;
 	}
 
 	// OPTIONAL: any other methods that you find convenient for implementation or testing
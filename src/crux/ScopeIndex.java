@@ -0,0 +1,66 @@
+package crux;
+
+import java.util.Arrays;
+
+// The scopes of a parsed program by source position, for tools that ask
+// what a name means or what is visible at some point long after parsing:
+// completion, go to definition, outlines.
+// The parser adds a record wherever the visible symbols change, at each
+// declaration and at the end of each scope; a record is a position and a
+// SymbolTable.Snapshot, and snapshots share everything they have in common,
+// so the index grows with the declarations and scopes of the program, not
+// with how many symbols each point sees.
+public class ScopeIndex
+{
+	private long[] positions = new long[64];
+	private SymbolTable.Snapshot[] snapshots = new SymbolTable.Snapshot[64];
+	private int size = 0;
+
+	private static long position(int lineNumber, int charPosition)
+	{
+		return ((long) lineNumber << 32) | (charPosition & 0xffffffffL);
+	}
+
+	// what is visible from the given position on; positions are added in
+	// source order, a record never goes before the one added before it
+	void add(int lineNumber, int charPosition, SymbolTable.Snapshot snapshot)
+	{
+		if (size == positions.length)
+		{
+			positions = Arrays.copyOf(positions, size * 2);
+			snapshots = Arrays.copyOf(snapshots, size * 2);
+		}
+		long position = position(lineNumber, charPosition);
+		if (size > 0 && position < positions[size - 1])
+			position = positions[size - 1];
+		positions[size] = position;
+		snapshots[size] = snapshot;
+		size++;
+	}
+
+	public int size()
+	{
+		return size;
+	}
+
+	// the symbols visible at the given position, the last record at or
+	// before it; before the first record, the symbols visible before the
+	// program's first declaration
+	public SymbolTable.Snapshot at(int lineNumber, int charPosition)
+	{
+		if (size == 0)
+			throw new IllegalStateException("Nothing was parsed");
+		long position = position(lineNumber, charPosition);
+		int low = 0;
+		int high = size - 1;
+		while (low < high)
+		{
+			int middle = (low + high + 1) >>> 1;
+			if (positions[middle] <= position)
+				low = middle;
+			else
+				high = middle - 1;
+		}
+		return snapshots[low];
+	}
+}
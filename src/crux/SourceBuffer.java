@@ -0,0 +1,122 @@
+package crux;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.security.MessageDigest;
+
+// A whole Crux source held in memory so the Scanner can read it by offset
+// instead of pulling one character at a time through a Reader.
+// Crux programs are plain ASCII, so every byte of the buffer is treated as
+// exactly one character.
+public class SourceBuffer
+{
+	private static final int READ_CHUNK_SIZE = 64 * 1024;
+
+	private ByteBuffer bytes;
+	private int length;
+
+	private SourceBuffer(ByteBuffer bytes)
+	{
+		this.bytes = bytes;
+		this.length = bytes.limit();
+	}
+
+	// memory-map the source file, the fastest way to get at a large file
+	public static SourceBuffer map(File file) throws IOException
+	{
+		RandomAccessFile raf = new RandomAccessFile(file, "r");
+		try
+		{
+			FileChannel channel = raf.getChannel();
+			long size = channel.size();
+			if (size > Integer.MAX_VALUE)
+				throw new IOException("Source file too large to map: " + file);
+
+			// the mapping stays valid after the channel is closed
+			return new SourceBuffer(channel.map(FileChannel.MapMode.READ_ONLY, 0, size));
+		}
+		finally
+		{
+			raf.close();
+		}
+	}
+
+	// read everything from a stream that cannot be mapped (stdin, pipes)
+	// into one big array
+	public static SourceBuffer read(InputStream in) throws IOException
+	{
+		ByteArrayOutputStream out = new ByteArrayOutputStream(READ_CHUNK_SIZE);
+		byte[] chunk = new byte[READ_CHUNK_SIZE];
+		int count;
+		while ((count = in.read(chunk)) != -1)
+			out.write(chunk, 0, count);
+
+		return new SourceBuffer(ByteBuffer.wrap(out.toByteArray()));
+	}
+
+	public static SourceBuffer wrap(String text)
+	{
+		byte[] data = new byte[text.length()];
+		for (int i = 0; i < data.length; i++)
+			data[i] = (byte) text.charAt(i);
+
+		return new SourceBuffer(ByteBuffer.wrap(data));
+	}
+
+	// a copy of this source with [offset, offset + removed) replaced by inserted
+	public SourceBuffer edit(int offset, int removed, String inserted)
+	{
+		if (offset < 0 || removed < 0 || offset + removed > length)
+			throw new IndexOutOfBoundsException("Edit [" + offset + ", " 
+					+ (offset + removed) + ") outside of source of length " + length);
+
+		int tail = length - offset - removed;
+		byte[] data = new byte[offset + inserted.length() + tail];
+
+		ByteBuffer view = bytes.duplicate();
+		view.position(0);
+		view.get(data, 0, offset);
+		for (int i = 0; i < inserted.length(); i++)
+			data[offset + i] = (byte) inserted.charAt(i);
+		view.position(offset + removed);
+		view.get(data, offset + inserted.length(), tail);
+
+		return new SourceBuffer(ByteBuffer.wrap(data));
+	}
+
+	// feed every byte of the source to digest
+	void digest(MessageDigest digest)
+	{
+		ByteBuffer view = bytes.duplicate();
+		view.position(0);
+		view.limit(length);
+		digest.update(view);
+	}
+
+	public int length()
+	{
+		return length;
+	}
+
+	// returns the character at offset, or -1 past the end of the source
+	public int charAt(int offset)
+	{
+		if (offset >= length)
+			return -1;
+		return bytes.get(offset) & 0xFF;
+	}
+
+	public String substring(int offset, int count)
+	{
+		char[] chars = new char[count];
+		for (int i = 0; i < count; i++)
+			chars[i] = (char) (bytes.get(offset + i) & 0xFF);
+
+		return new String(chars);
+	}
+}
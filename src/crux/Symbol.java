@@ -5,8 +5,22 @@ import types.ErrorType;
 
 public class Symbol {
     
+    // what a declared symbol names; its slot numbers it densely among the
+    // symbols of its kind: globals and functions per program (the built-in
+    // functions first), locals and arguments per function in declaration
+    // order, so later phases can keep per-symbol data in arrays
+    public enum Kind
+    {
+        GLOBAL,
+        LOCAL,
+        ARGUMENT,
+        FUNCTION,
+    }
+
     private String name;
     private Type type;
+    private Kind kind;
+    private int slot = -1;
 
     public Symbol(String name) 
     {
@@ -29,9 +43,26 @@ public class Symbol {
         return type;
     }
 
+    // null for a symbol that was never declared, such as an ErrorSymbol
+    public Kind kind()
+    {
+        return kind;
+    }
+
+    public int slot()
+    {
+        return slot;
+    }
+
+    void setSlot(Kind kind, int slot)
+    {
+        this.kind = kind;
+        this.slot = slot;
+    }
+
     public String toString()
     {
-        return "Symbol(" + name + ":" + type + ")";
+        return "Symbol(" + name() + ":" + type + ")";
     }
 
     public static Symbol newError(String message) 
@@ -42,8 +73,23 @@ public class Symbol {
 
 class ErrorSymbol extends Symbol
 {
+    private Diagnostic diagnostic;
+
     public ErrorSymbol(String message)
     {
         super(message);
     }
+
+    // named after the message of the diagnostic, built when first asked for
+    public ErrorSymbol(Diagnostic diagnostic)
+    {
+        super(null);
+        this.diagnostic = diagnostic;
+    }
+
+    @Override
+    public String name()
+    {
+        return diagnostic != null ? diagnostic.message() : super.name();
+    }
 }
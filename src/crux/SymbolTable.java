@@ -2,80 +2,272 @@ package crux;
 
 
 import java.util.ArrayList;
-import java.util.LinkedHashMap;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
+import java.util.Set;
 import types.FloatType;
 import types.IntType;
+import types.Type;
 import types.VoidType;
 
+// Every name maps to the chain of its declarations that are in scope, the
+// innermost first, so lookup and insert take the same time at any depth.
+// Declarations are also kept in a log in declaration order, scope after
+// scope; leaving a scope unwinds the log back to where the scope began and
+// unlinks each of its declarations from its name's chain.
+// Each declaration also links to the one declared before it that is still
+// in scope, so the latest one stands for everything visible at that point:
+// snapshot() takes the scopes as they are in constant time, and snapshots
+// share all the declarations they have in common.
+// To look a name up in a snapshot without walking it, every declaration is
+// numbered and remembers the number at which its scope was left; a table
+// made to keep snapshots keeps each name's declarations in order, and the
+// one a snapshot sees is the last one numbered up to the snapshot's that
+// was still in scope then. Other tables let go of a scope's declarations
+// when it is left, their snapshots walk their declarations instead.
 public class SymbolTable
 {
 	private int depth = 0;
-	private ArrayList<Map<String, Symbol>> table;
+	private HashMap<String, Entry> entries;
+	private ArrayList<Entry> log;
+	private int[] scopeStarts;	// log size when each depth was entered
+	private History history;
 
-	private static List<Symbol> predefinedSymbols;
+	// The symbols visible at one point, the innermost declaration first.
+	// Never changes, it can be kept and queried long after parsing.
+	public static class Snapshot
+	{
+		final Symbol symbol;
+		final int depth;
+		final Snapshot previous;
+
+		Snapshot(Symbol symbol, int depth, Snapshot previous)
+		{
+			this.symbol = symbol;
+			this.depth = depth;
+			this.previous = previous;
+		}
+
+		// the scope depth of the innermost declaration, 0 for a global
+		public int depth()
+		{
+			return depth;
+		}
+
+		// the symbol the name resolves to, or null
+		public Symbol lookup(String name)
+		{
+			return null;
+		}
+
+		// every visible symbol, innermost first, without the ones hidden by
+		// a declaration of the same name
+		public List<Symbol> visible()
+		{
+			List<Symbol> visible = new ArrayList<Symbol>();
+			Set<String> names = new HashSet<String>();
+			for (Snapshot s = this; s.symbol != null; s = s.previous)
+				if (names.add(s.symbol.name()))
+					visible.add(s.symbol);
+			return visible;
+		}
+	}
+
+	// nothing declared
+	private static final Snapshot EMPTY = new Snapshot(null, 0, null);
+
+	// a declaration in scope, and the one of the same name it hides
+	private static class Entry extends Snapshot
+	{
+		int position;	// in the log
+		Entry hidden;
+		final History history;
+		final int number;	// in declaration order
+		int left = Integer.MAX_VALUE;	// history.declared when its scope was left
+
+		Entry(Symbol symbol, int depth, Snapshot previous, int position, Entry hidden,
+				History history)
+		{
+			super(symbol, depth, previous);
+			this.position = position;
+			this.hidden = hidden;
+			this.history = history;
+			this.number = history.declared++;
+		}
+
+		@Override
+		public Symbol lookup(String name)
+		{
+			if (history.declarations == null)
+			{
+				for (Snapshot s = this; s.symbol != null; s = s.previous)
+					if (s.symbol.name().equals(name))
+						return s.symbol;
+				return null;
+			}
+
+			ArrayList<Entry> declarations = history.declarations.get(name);
+			if (declarations != null)
+			{
+				// the last declaration of the name up to this one, then the
+				// ones it hid until one was in scope here
+				int low = 0;
+				int high = declarations.size() - 1;
+				while (low < high)
+				{
+					int middle = (low + high + 1) >>> 1;
+					if (declarations.get(middle).number <= number)
+						low = middle;
+					else
+						high = middle - 1;
+				}
+				Entry entry = declarations.get(low);
+				if (entry.number > number)
+					entry = null;
+				while (entry != null && entry.left <= number)
+					entry = entry.hidden;
+				if (entry != null)
+					return entry.symbol;
+			}
+			return history.base.lookup(name);
+		}
+	}
+
+	// every declaration a table ever had, by name in declaration order,
+	// for Snapshot.lookup(); null unless the table keeps snapshots
+	private static class History
+	{
+		HashMap<String, ArrayList<Entry>> declarations;
+		Snapshot base;	// what is visible before the table's first declaration
+		int declared;
+
+		History(Snapshot base, boolean keep)
+		{
+			this.base = base;
+			if (keep)
+				declarations = new HashMap<String, ArrayList<Entry>>();
+		}
+	}
+
+	// set when the global scope is a prefix of another table's
+	private SymbolTable globals;
+	private int visibleGlobals;
+
+	// The built-in functions every program starts with, in the order they
+	// are declared. Built once and never changed, every table declares the
+	// same symbols, so any number of compilations can run side by side.
+	private static final List<Symbol> PRELUDE = loadPredefinedSymbols();
+
+	// a built-in function symbol, its type is fixed
+	private static class PredefinedSymbol extends Symbol
+	{
+		PredefinedSymbol(String name, Type type, int slot)
+		{
+			super(name);
+			super.setType(type);
+			setSlot(Kind.FUNCTION, slot);
+		}
+
+		@Override
+		public void setType(Type type)
+		{
+			throw new UnsupportedOperationException("Predefined " + this + " cannot change.");
+		}
+	}
 	
 	public SymbolTable()
 	{
-		table = new ArrayList<Map<String, Symbol>>();
-		table.add(new LinkedHashMap<String, Symbol>());
-		predefinedSymbols = new ArrayList<Symbol>();
-		
-		initloadPredefinedSymbols();
+		this(false);
+	}
+
+	// a table whose snapshots are kept and looked up long after parsing,
+	// see ScopeIndex, if keepSnapshots
+	public SymbolTable(boolean keepSnapshots)
+	{
+		this(null, 0, keepSnapshots);
+		for (Symbol symbol : PRELUDE)
+			push(symbol, null);
 	} 
 
+	// a table whose global scope is the first visibleGlobals symbols declared
+	// in the global scope of globals, which is only read from then on. Used
+	// to parse a function body on its own thread: the body sees the globals
+	// declared before it, and only local scopes are declared into.
+	SymbolTable(SymbolTable globals, int visibleGlobals)
+	{
+		this(globals, visibleGlobals, false);
+	}
+
+	private SymbolTable(SymbolTable globals, int visibleGlobals, boolean keepSnapshots)
+	{
+		entries = new HashMap<String, Entry>();
+		log = new ArrayList<Entry>();
+		scopeStarts = new int[16];
+		this.globals = globals;
+		this.visibleGlobals = visibleGlobals;
+		history = new History(globals != null && visibleGlobals > 0
+				? globals.log.get(visibleGlobals - 1) : EMPTY, keepSnapshots);
+	}
+
 
+	// the built-in functions, the same unmodifiable list for every table
 	public static List<Symbol> getPredifinedSymbols()
 	{
-		return predefinedSymbols;
+		return PRELUDE;
 	}
 	
 	
-	private void initloadPredefinedSymbols()
+	private static List<Symbol> loadPredefinedSymbols()
 	{
 		IntType intType = new IntType();
 		FloatType floatType = new FloatType();
 		VoidType voidType = new VoidType();
 		
-		Symbol readInt = insert("readInt");
-		readInt.setType(intType);
-		
-		Symbol readFloat = insert("readFloat");
-		readFloat.setType(floatType);
-		
-		Symbol printBool = insert("printBool");
-		printBool.setType(voidType);
-		
-		Symbol printInt = insert("printInt");
-		printInt.setType(voidType);
-		
-		Symbol printFloat = insert("printFloat");
-		printFloat.setType(voidType);
-		
-		Symbol println = insert("println");
-		println.setType(voidType);
-		
-		predefinedSymbols.add(readInt);
-		predefinedSymbols.add(readFloat);
-		predefinedSymbols.add(printBool);	
-		predefinedSymbols.add(printInt);
-		predefinedSymbols.add(printFloat);
-		predefinedSymbols.add(println);	
+		List<Symbol> predefinedSymbols = new ArrayList<Symbol>();
+		predefinedSymbols.add(new PredefinedSymbol("readInt", intType, 0));
+		predefinedSymbols.add(new PredefinedSymbol("readFloat", floatType, 1));
+		predefinedSymbols.add(new PredefinedSymbol("printBool", voidType, 2));
+		predefinedSymbols.add(new PredefinedSymbol("printInt", voidType, 3));
+		predefinedSymbols.add(new PredefinedSymbol("printFloat", voidType, 4));
+		predefinedSymbols.add(new PredefinedSymbol("println", voidType, 5));
+		return Collections.unmodifiableList(predefinedSymbols);
 	}
 	
 	
 	
 	public void increaseDepth()
 	{
-		depth++;
-		table.add(new LinkedHashMap<String, Symbol>());
+		if (++depth == scopeStarts.length)
+		{
+			int[] grown = new int[scopeStarts.length * 2];
+			System.arraycopy(scopeStarts, 0, grown, 0, depth);
+			scopeStarts = grown;
+		}
+		scopeStarts[depth] = log.size();
 	}
 
 
 	public void decreseDepth()
 	{	
-		table.remove(depth--);
+		for (int i = log.size() - 1; i >= scopeStarts[depth]; i--)
+		{
+			Entry entry = log.remove(i);
+			entry.left = history.declared;
+			if (entry.hidden == null)
+				entries.remove(entry.symbol.name());
+			else
+				entries.put(entry.symbol.name(), entry.hidden);
+		}
+		depth--;
+	}
+
+
+	// everything visible now; constant time, and nothing is copied
+	public Snapshot snapshot()
+	{
+		return log.isEmpty() ? history.base : log.get(log.size() - 1);
 	}
 
 
@@ -86,59 +278,132 @@ public class SymbolTable
 	}
 	
 	
-	private Map<String, Symbol> getSymbolsAtDepth(int depth)
-	{
-		return table.get(depth);
-	}
-	
-	
 	
 
 	public Symbol lookup(String name) throws SymbolNotFoundError
 	{
-		for (int i = depth; i >= 0; i--)
+		Entry entry = entries.get(name);
+		if (entry != null)
+			return entry.symbol;
+
+		if (globals != null)
 		{
-			if (getSymbolsAtDepth(i).containsKey(name))
-				return getSymbolsAtDepth(i).get(name);
+			entry = globals.globalEntry(name);
+			if (entry != null && entry.position < visibleGlobals)
+				return entry.symbol;
 		}
 		throw new SymbolNotFoundError(name);
 	}
 
 
-	public Symbol insert(String name) throws RedeclarationError
+	private Entry globalEntry(String name)
+	{
+		Entry entry = entries.get(name);
+		while (entry != null && entry.depth > 0)
+			entry = entry.hidden;
+		return entry;
+	}
+
+
+	// number of symbols declared in the global scope so far
+	int globalCount()
+	{
+		return depth == 0 ? log.size() : scopeStarts[1];
+	}
+
+
+	// the symbols of the innermost scope, in declaration order
+	List<Symbol> currentScope()
 	{
-		Symbol symbol = getSymbolsAtDepth(depth).get(name);
+		List<Symbol> scope = new ArrayList<Symbol>();
+		for (int i = scopeStarts[depth]; i < log.size(); i++)
+			scope.add(log.get(i).symbol);
+		return scope;
+	}
 
-		if (symbol != null)
-			throw new RedeclarationError(symbol);
 
-		symbol = new Symbol(name);
+	// put a symbol declared elsewhere into the innermost scope, where its
+	// name is not declared yet
+	void declare(Symbol symbol)
+	{
+		push(symbol, entries.get(symbol.name()));
+	}
 
-		getSymbolsAtDepth(depth).put(name, symbol);
+
+	public Symbol insert(String name) throws RedeclarationError
+	{
+		Entry entry = entries.get(name);
+
+		if (entry != null && entry.depth == depth)
+			throw new RedeclarationError(entry.symbol);
+
+		Symbol symbol = new Symbol(name);
+		push(symbol, entry);
 
 		return symbol;
 	}
 
 
+	// put a symbol declared elsewhere, such as an imported one, into the
+	// innermost scope
+	void insert(Symbol symbol) throws RedeclarationError
+	{
+		Entry entry = entries.get(symbol.name());
+
+		if (entry != null && entry.depth == depth)
+			throw new RedeclarationError(entry.symbol);
+
+		push(symbol, entry);
+	}
+
+
+	private void push(Symbol symbol, Entry hidden)
+	{
+		Entry entry = new Entry(symbol, depth, snapshot(), log.size(), hidden, history);
+		log.add(entry);
+		entries.put(symbol.name(), entry);
+
+		if (history.declarations != null)
+		{
+			ArrayList<Entry> declarations = history.declarations.get(symbol.name());
+			if (declarations == null)
+			{
+				declarations = new ArrayList<Entry>(2);
+				history.declarations.put(symbol.name(), declarations);
+			}
+			declarations.add(entry);
+		}
+	}
+
+
 	public String toString()
 	{
 		StringBuffer sb = new StringBuffer();
 
-		for (Symbol s : getSymbolsAtDepth(0).values())	
-			sb.append(s.toString() + "\n");
+		if (globals == null)
+			appendScope(sb, "", log, 0, globalCount());
+		else
+			appendScope(sb, "", globals.log, 0, visibleGlobals);
 
 		String indent = new String();
 
-		for (int i = 1; i < table.size(); i++)
+		for (int i = 1; i <= depth; i++)
 		{
 			indent += "  ";
-			for (Symbol s : 
-				getSymbolsAtDepth(i).values())
-				sb.append(indent + s.toString() + "\n");
+			appendScope(sb, indent, log, scopeStarts[i],
+					i < depth ? scopeStarts[i + 1] : log.size());
 		}
 
 		return sb.toString();
 	}
+
+
+	private static void appendScope(StringBuffer sb, String indent,
+			List<Entry> log, int begin, int end)
+	{
+		for (int i = begin; i < end; i++)
+			sb.append(indent + log.get(i).symbol.toString() + "\n");
+	}
 }
 
 
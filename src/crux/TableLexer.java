@@ -0,0 +1,375 @@
+package crux;
+
+import crux.Token.Kind;
+
+// Table-driven lexer core for the Scanner.
+// Characters are mapped to a small set of classes through a 128 entry table,
+// a DFA over those classes recognizes the longest token, and keywords are
+// told apart from identifiers with a collision-free hash on
+// (length, first char, last char).
+// Produces exactly the same token stream as the hand-written Scanner.
+class TableLexer
+{
+	// character classes
+	private static final int C_OTHER = 0;
+	private static final int C_BLANK = 1;
+	private static final int C_NEWLINE = 2;
+	private static final int C_LETTER = 3;	// letters and '_'
+	private static final int C_DIGIT = 4;
+	private static final int C_DOT = 5;
+	private static final int C_SLASH = 6;
+	private static final int C_LESS = 7;
+	private static final int C_GREATER = 8;
+	private static final int C_EQUAL = 9;
+	private static final int C_BANG = 10;
+	private static final int C_COLON = 11;
+	private static final int C_SINGLE = 12;	// one character tokens: ( ) { } [ ] + - * , ;
+	private static final int C_EOF = 13;
+	private static final int CLASS_COUNT = 14;
+
+	// DFA states
+	private static final int S_START = 0;
+	private static final int S_IDENTIFIER = 1;
+	private static final int S_INTEGER = 2;
+	private static final int S_FLOAT = 3;
+	private static final int S_SLASH = 4;
+	private static final int S_COMMENT = 5;
+	private static final int S_LESS = 6;
+	private static final int S_GREATER = 7;
+	private static final int S_EQUAL = 8;
+	private static final int S_BANG = 9;
+	private static final int S_COLON = 10;
+	private static final int S_SINGLE = 11;	// seen a complete one character token
+	private static final int S_DOUBLE = 12;	// seen a complete two character token
+	private static final int S_OTHER = 13;	// seen an unexpected character
+	private static final int STATE_COUNT = 14;
+
+	// a transition to ACCEPT ends the token without consuming the character
+	private static final int ACCEPT = -1;
+
+	private static final byte[] CHAR_CLASS = new byte[128];
+	private static final int[] TRANSITION = new int[STATE_COUNT * CLASS_COUNT];
+
+	// kind of the token accepted in each state (null for states that
+	// resolve their kind from the lexeme)
+	private static final Kind[] ACCEPT_KIND = new Kind[STATE_COUNT];
+
+	// kinds of the one character tokens, and the two character tokens
+	// indexed by their second character
+	private static final Kind[] SINGLE_KIND = new Kind[128];
+	private static final Kind[] DOUBLE_KIND = new Kind[128];
+
+	// a FLOAT whose digits, read as an integer, stay below 2^24 and that has
+	// at most 10 digits after the dot is digits / 10^fraction computed
+	// exactly in float arithmetic, which is what Float.parseFloat returns
+	private static final int EXACT_FLOAT_DIGITS = 1 << 24;
+	private static final float[] EXACT_POWERS_OF_TEN = { 1e0f, 1e1f, 1e2f,
+		1e3f, 1e4f, 1e5f, 1e6f, 1e7f, 1e8f, 1e9f, 1e10f };
+
+	private static final int KEYWORD_TABLE_SIZE = 32;
+	private static final Kind[] KEYWORDS = new Kind[KEYWORD_TABLE_SIZE];
+
+	static
+	{
+		// character classes
+		for (char c = 'a'; c <= 'z'; c++)
+			CHAR_CLASS[c] = C_LETTER;
+		for (char c = 'A'; c <= 'Z'; c++)
+			CHAR_CLASS[c] = C_LETTER;
+		CHAR_CLASS['_'] = C_LETTER;
+		for (char c = '0'; c <= '9'; c++)
+			CHAR_CLASS[c] = C_DIGIT;
+
+		// same blank characters as Scanner.isBlank
+		CHAR_CLASS[0] = C_BLANK;
+		CHAR_CLASS['\t'] = C_BLANK;
+		CHAR_CLASS['\f'] = C_BLANK;
+		CHAR_CLASS[' '] = C_BLANK;
+		CHAR_CLASS['\n'] = C_NEWLINE;
+
+		CHAR_CLASS['.'] = C_DOT;
+		CHAR_CLASS['/'] = C_SLASH;
+		CHAR_CLASS['<'] = C_LESS;
+		CHAR_CLASS['>'] = C_GREATER;
+		CHAR_CLASS['='] = C_EQUAL;
+		CHAR_CLASS['!'] = C_BANG;
+		CHAR_CLASS[':'] = C_COLON;
+
+		Kind[] singles = { Kind.OPEN_PAREN, Kind.CLOSE_PAREN,
+				Kind.OPEN_BRACE, Kind.CLOSE_BRACE,
+				Kind.OPEN_BRACKET, Kind.CLOSE_BRACKET,
+				Kind.ADD, Kind.SUB, Kind.MUL, Kind.COMMA, Kind.SEMICOLON };
+		for (Kind kind : singles)
+		{
+			char c = kind.default_lexeme.charAt(0);
+			CHAR_CLASS[c] = C_SINGLE;
+			SINGLE_KIND[c] = kind;
+		}
+		SINGLE_KIND['/'] = Kind.DIV;
+		SINGLE_KIND['<'] = Kind.LESS_THAN;
+		SINGLE_KIND['>'] = Kind.GREATER_THAN;
+		SINGLE_KIND['='] = Kind.ASSIGN;
+		SINGLE_KIND[':'] = Kind.COLON;
+
+		DOUBLE_KIND['<'] = Kind.LESSER_EQUAL;
+		DOUBLE_KIND['>'] = Kind.GREATER_EQUAL;
+		DOUBLE_KIND['='] = Kind.EQUAL;
+		DOUBLE_KIND['!'] = Kind.NOT_EQUAL;
+		DOUBLE_KIND[':'] = Kind.CALL;
+
+		// transitions, everything not listed accepts
+		for (int i = 0; i < TRANSITION.length; i++)
+			TRANSITION[i] = ACCEPT;
+
+		for (int c = 0; c < CLASS_COUNT; c++)
+			TRANSITION[S_START * CLASS_COUNT + c] = S_OTHER;
+		setTransition(S_START, C_BLANK, S_START);
+		setTransition(S_START, C_NEWLINE, S_START);
+		setTransition(S_START, C_LETTER, S_IDENTIFIER);
+		setTransition(S_START, C_DIGIT, S_INTEGER);
+		setTransition(S_START, C_SLASH, S_SLASH);
+		setTransition(S_START, C_LESS, S_LESS);
+		setTransition(S_START, C_GREATER, S_GREATER);
+		setTransition(S_START, C_EQUAL, S_EQUAL);
+		setTransition(S_START, C_BANG, S_BANG);
+		setTransition(S_START, C_COLON, S_COLON);
+		setTransition(S_START, C_SINGLE, S_SINGLE);
+		setTransition(S_START, C_EOF, ACCEPT);
+
+		setTransition(S_IDENTIFIER, C_LETTER, S_IDENTIFIER);
+		setTransition(S_IDENTIFIER, C_DIGIT, S_IDENTIFIER);
+
+		setTransition(S_INTEGER, C_DIGIT, S_INTEGER);
+		setTransition(S_INTEGER, C_DOT, S_FLOAT);
+		setTransition(S_FLOAT, C_DIGIT, S_FLOAT);
+
+		// "//" starts a comment that runs up to the end of the line
+		setTransition(S_SLASH, C_SLASH, S_COMMENT);
+		for (int c = 0; c < CLASS_COUNT; c++)
+			TRANSITION[S_COMMENT * CLASS_COUNT + c] = S_COMMENT;
+		setTransition(S_COMMENT, C_NEWLINE, S_START);
+		setTransition(S_COMMENT, C_EOF, S_START);
+
+		setTransition(S_LESS, C_EQUAL, S_DOUBLE);
+		setTransition(S_GREATER, C_EQUAL, S_DOUBLE);
+		setTransition(S_EQUAL, C_EQUAL, S_DOUBLE);
+		setTransition(S_BANG, C_EQUAL, S_DOUBLE);
+		setTransition(S_COLON, C_COLON, S_DOUBLE);
+
+		ACCEPT_KIND[S_BANG] = Kind.ERROR;
+		ACCEPT_KIND[S_OTHER] = Kind.ERROR;
+
+		// keywords are the kinds whose lexeme starts with a letter
+		for (Kind kind : Kind.values())
+		{
+			String lexeme = kind.default_lexeme;
+			if (lexeme.length() == 0 || !Character.isLetter(lexeme.charAt(0)))
+				continue;
+
+			int slot = keywordHash(lexeme.length(), lexeme.charAt(0),
+					lexeme.charAt(lexeme.length() - 1));
+			if (KEYWORDS[slot] != null)
+				throw new AssertionError("Keyword hash collision: " + kind
+						+ " and " + KEYWORDS[slot]);
+			KEYWORDS[slot] = kind;
+		}
+	}
+
+	private static void setTransition(int state, int charClass, int next)
+	{
+		TRANSITION[state * CLASS_COUNT + charClass] = next;
+	}
+
+	private static int keywordHash(int length, int first, int last)
+	{
+		return (length + first + 10 * last) & (KEYWORD_TABLE_SIZE - 1);
+	}
+
+	private SourceBuffer source;
+	private Lexemes lexemes;
+	private int end;
+	private int position;
+
+	TableLexer(SourceBuffer source)
+	{
+		this(source, new Lexemes(source), 0, source.length());
+	}
+
+	// lex only [begin, end) of the source, begin must be a place where a
+	// token can start (the start of a line, or of a token)
+	TableLexer(SourceBuffer source, Lexemes lexemes, int begin, int end)
+	{
+		this.source = source;
+		this.lexemes = lexemes;
+		this.end = end;
+		this.position = begin;
+	}
+
+	private int charClass(int c)
+	{
+		if (c < 0)
+			return C_EOF;
+		if (c >= 128)
+			return C_OTHER;
+		return CHAR_CLASS[c];
+	}
+
+	// the token most recently found by scan()
+	private int tokenOffset;
+	private int tokenLength;
+	private int tokenValue;
+
+	public Lexemes lexemes()
+	{
+		return lexemes;
+	}
+
+	public Token next()
+	{
+		Kind kind = scan();
+		return new Token(kind, lexemes, tokenOffset, tokenLength, tokenValue);
+	}
+
+	// finds the next token without allocating it, its lexeme slice and
+	// numeric value are left in tokenOffset, tokenLength and tokenValue.
+	// Lines are not counted here: a token's line and charPos are looked up
+	// from its offset, and only when someone asks for them.
+	public Kind scan()
+	{
+		int state = S_START;
+		int start = position;
+
+		while (true)
+		{
+			int c = position < end ? source.charAt(position) : -1;
+			int next = TRANSITION[state * CLASS_COUNT + charClass(c)];
+
+			if (next == ACCEPT)
+				break;
+
+			if (c != -1)
+				position++;
+
+			state = next;
+			if (state == S_START)
+			{
+				// skipped a blank or a comment, the token starts later
+				start = position;
+			}
+		}
+
+		tokenOffset = start;
+		tokenLength = position - start;
+		tokenValue = 0;
+
+		switch (state)
+		{
+		case S_IDENTIFIER:
+			return identifierOrKeyword(start, tokenLength);
+		case S_SINGLE:
+		case S_SLASH:
+		case S_LESS:
+		case S_GREATER:
+		case S_EQUAL:
+		case S_COLON:
+			return SINGLE_KIND[source.charAt(start)];
+		case S_DOUBLE:
+			return DOUBLE_KIND[source.charAt(start)];
+		case S_START:
+			return Kind.EOF;
+		case S_INTEGER:
+			return integerValue(start, tokenLength);
+		case S_FLOAT:
+			return floatValue(start, tokenLength);
+		default:
+			return ACCEPT_KIND[state];
+		}
+	}
+
+	// an INTEGER that does not fit in an int is an ERROR
+	private Kind integerValue(int start, int count)
+	{
+		int value = 0;
+		for (int i = start; i < start + count; i++)
+		{
+			int digit = source.charAt(i) - '0';
+			if (value > (Integer.MAX_VALUE - digit) / 10)
+				return Kind.ERROR;
+			value = value * 10 + digit;
+		}
+
+		tokenValue = value;
+		return Kind.INTEGER;
+	}
+
+	private Kind floatValue(int start, int count)
+	{
+		int digits = 0;
+		int fraction = -1;	// digits after the dot
+		boolean exact = true;
+
+		for (int i = start; i < start + count; i++)
+		{
+			int c = source.charAt(i);
+			if (c == '.')
+			{
+				fraction = 0;
+				continue;
+			}
+			if (fraction >= 0)
+				fraction++;
+
+			digits = digits * 10 + (c - '0');
+			if (digits >= EXACT_FLOAT_DIGITS)
+			{
+				exact = false;
+				break;
+			}
+		}
+
+		float value;
+		if (exact && fraction < EXACT_POWERS_OF_TEN.length)
+			value = digits / EXACT_POWERS_OF_TEN[fraction];
+		else
+			value = Float.parseFloat(source.substring(start, count));
+
+		tokenValue = Float.floatToRawIntBits(value);
+		return Kind.FLOAT;
+	}
+
+	private Kind identifierOrKeyword(int start, int count)
+	{
+		Kind keyword = KEYWORDS[keywordHash(count, source.charAt(start),
+				source.charAt(start + count - 1))];
+
+		if (keyword != null && matches(keyword.default_lexeme, start, count))
+			return keyword;
+
+		return Kind.IDENTIFIER;
+	}
+
+	private boolean matches(String lexeme, int start, int count)
+	{
+		if (lexeme.length() != count)
+			return false;
+		for (int i = 0; i < count; i++)
+			if (source.charAt(start + i) != lexeme.charAt(i))
+				return false;
+		return true;
+	}
+
+	public int tokenOffset()
+	{
+		return tokenOffset;
+	}
+
+	public int tokenLength()
+	{
+		return tokenLength;
+	}
+
+	public int tokenValue()
+	{
+		return tokenValue;
+	}
+}
@@ -77,6 +77,16 @@ public class Token
 	Kind kind;
 	private String lexeme = "";
 
+	// zero-copy tokens only record where their lexeme sits in the source,
+	// the String is built on the first call to lexeme()
+	private Lexemes lexemes;
+	private int offset;
+	private int length;
+
+	// value of an INTEGER, or the raw bits of the value of a FLOAT, worked
+	// out by the scanner so the parser never has to reparse the lexeme
+	private int value;
+
 	private static final String UNEXPECTED_CHARACTER = "Unexpected character";
 
 	// OPTIONAL: implement factory functions for some tokens, as you see fit           
@@ -112,23 +122,86 @@ public class Token
 		this.charPos = charPos;
 	}
 
+	// a numeric token, value holds an int or the raw bits of a float
+	Token (Kind kind, String lexeme, int value, int lineNum, int charPos)
+	{
+		this(kind, lexeme, lineNum, charPos);
+		this.value = value;
+	}
+
+	// a token of an in-memory source that only records where it starts:
+	// identifiers, numbers and errors keep their lexeme as the slice
+	// [offset, offset + length) of the source, and lineNum and charPos are
+	// looked up in the source's LineTable the first time they are asked for
+	Token (Kind kind, Lexemes lexemes, int offset, int length, int value)
+	{
+		this.kind = kind;
+		this.lexemes = lexemes;
+		this.offset = offset;
+		this.length = length;
+		this.value = value;
+
+		switch (kind)
+		{
+		case IDENTIFIER:
+		case INTEGER:
+		case FLOAT:
+		case ERROR:
+			this.lexeme = null;
+			break;
+		case EOF:
+			this.lexeme = "No Lexeme Given";
+			break;
+		default:
+			break;
+		}
+	}
+
 	public int lineNumber()
 	{
+		locate();
 		return lineNum;
 	}
 
 	public int charPosition()
 	{
+		locate();
 		return charPos;
 	}
 
+	// lines count from 1, so lineNum 0 means the position is still unknown
+	private void locate()
+	{
+		if (lineNum != 0 || lexemes == null)
+			return;
+
+		LineTable lines = lexemes.lines();
+		lineNum = lines.lineNumber(offset);
+		charPos = lines.charPosition(offset);
+	}
+
 	// Return the lexeme representing or held by this token
 	public String lexeme()
 	{
-		// TODO: implement
+		if (lexeme == null)
+			lexeme = kind == Kind.IDENTIFIER 
+				? lexemes.identifier(offset, length)
+				: lexemes.slice(offset, length);
 		return lexeme;
 	}
 
+	// value of an INTEGER token
+	public int intValue()
+	{
+		return value;
+	}
+
+	// value of a FLOAT token
+	public float floatValue()
+	{
+		return Float.intBitsToFloat(value);
+	}
+
 	public String toString()
 	{
 		// TODO: implement this
@@ -148,17 +221,17 @@ public class Token
 
 	private String toStringLexeme ()
 	{
-		return "(" + lexeme + ")";
+		return "(" + lexeme() + ")";
 	}
 	private String toStringCharPosition ()
 	{
-		return "(lineNum:" + lineNum + ", charPos:" 
-				+ charPos + ")";  
+		return "(lineNum:" + lineNumber() + ", charPos:" 
+				+ charPosition() + ")";  
 	}
 
 	private String toStringError ()
 	{
-		return "(" + UNEXPECTED_CHARACTER + ": " + lexeme + ")";
+		return "(" + UNEXPECTED_CHARACTER + ": " + lexeme() + ")";
 	}
 
 	// OPTIONAL: function to query a token about its kind
@@ -0,0 +1,375 @@
+package crux;
+
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+
+import crux.Token.Kind;
+
+// The token stream of a whole file, lexed up front into parallel primitive
+// arrays (struct of arrays) instead of one Token object per token.
+// The Parser reads it by index, so arbitrary lookahead and backtracking
+// cost nothing; Token objects are only built for the tokens the parser
+// actually keeps.
+// Positions are kept as source offsets only; line numbers and charPos are
+// looked up in the source's LineTable when someone asks for them.
+public class TokenBuffer
+{
+	private static final Kind[] KINDS = Kind.values();
+	private static final int INITIAL_CAPACITY = 1024;
+
+	private Lexemes lexemes;
+
+	private int[] kinds;	// Token.Kind ordinals
+	private int[] offsets;	// lexeme slices of the source
+	private int[] lengths;
+	private int[] values;	// INTEGER values and FLOAT bits
+	private int size;
+
+	private TokenBuffer(Lexemes lexemes, int capacity)
+	{
+		this.lexemes = lexemes;
+		this.kinds = new int[capacity];
+		this.offsets = new int[capacity];
+		this.lengths = new int[capacity];
+		this.values = new int[capacity];
+		this.size = 0;
+	}
+
+	// the same tokens for a reader on another thread: the token arrays are
+	// only read, Tokens are materialized from Lexemes of the reader's own
+	TokenBuffer share()
+	{
+		TokenBuffer shared = new TokenBuffer(lexemes.share(), 0);
+		shared.kinds = kinds;
+		shared.offsets = offsets;
+		shared.lengths = lengths;
+		shared.values = values;
+		shared.size = size;
+		return shared;
+	}
+
+	// lex the whole source, the last token of the buffer is always EOF
+	public static TokenBuffer lex(SourceBuffer source)
+	{
+		return lex(new TableLexer(source), source.length());
+	}
+
+	// lex everything the lexer covers, length is the number of characters
+	// it will see
+	static TokenBuffer lex(TableLexer lexer, int length)
+	{
+		// a rough guess of one token per four characters saves most regrowth
+		TokenBuffer buffer = new TokenBuffer(lexer.lexemes(),
+				Math.max(INITIAL_CAPACITY, length / 4));
+
+		Kind kind;
+		do
+		{
+			kind = lexer.scan();
+			buffer.add(kind, lexer.tokenOffset(), lexer.tokenLength(),
+					lexer.tokenValue());
+		} while (kind != Kind.EOF);
+
+		return buffer;
+	}
+
+	// stitch the token streams of consecutive chunks of one source into a
+	// single stream, the EOF of every chunk but the last is dropped
+	static TokenBuffer concat(Lexemes lexemes, TokenBuffer[] chunks)
+	{
+		int total = 1;
+		for (TokenBuffer chunk : chunks)
+			total += chunk.size - 1;
+
+		TokenBuffer buffer = new TokenBuffer(lexemes, total);
+		for (int i = 0; i < chunks.length; i++)
+		{
+			TokenBuffer chunk = chunks[i];
+			int count = i == chunks.length - 1 ? chunk.size : chunk.size - 1;
+			int at = buffer.size;
+
+			System.arraycopy(chunk.kinds, 0, buffer.kinds, at, count);
+			System.arraycopy(chunk.offsets, 0, buffer.offsets, at, count);
+			System.arraycopy(chunk.lengths, 0, buffer.lengths, at, count);
+			System.arraycopy(chunk.values, 0, buffer.values, at, count);
+
+			buffer.size += count;
+		}
+		return buffer;
+	}
+
+	private void add(Kind kind, int offset, int length, int value)
+	{
+		if (size == kinds.length)
+			grow();
+
+		kinds[size] = kind.ordinal();
+		offsets[size] = offset;
+		lengths[size] = length;
+		values[size] = value;
+		size++;
+	}
+
+	private void grow()
+	{
+		int capacity = kinds.length * 2;
+		kinds = copyOf(kinds, capacity);
+		offsets = copyOf(offsets, capacity);
+		lengths = copyOf(lengths, capacity);
+		values = copyOf(values, capacity);
+	}
+
+	private static int[] copyOf(int[] array, int capacity)
+	{
+		int[] copy = new int[capacity];
+		System.arraycopy(array, 0, copy, 0, array.length);
+		return copy;
+	}
+
+	// Compact binary form used by the TokenCache: the token count, then for
+	// every token its kind, the distance from the previous token's offset
+	// and its length as variable-length ints, and a value for INTEGER
+	// (variable-length) and FLOAT (raw bits) tokens only.
+	void write(DataOutput out) throws IOException
+	{
+		out.writeInt(size);
+		int previous = 0;
+		for (int i = 0; i < size; i++)
+		{
+			out.writeByte(kinds[i]);
+			writeVarInt(out, offsets[i] - previous);
+			writeVarInt(out, lengths[i]);
+			if (kinds[i] == Kind.INTEGER.ordinal())
+				writeVarInt(out, values[i]);
+			else if (kinds[i] == Kind.FLOAT.ordinal())
+				out.writeInt(values[i]);
+			previous = offsets[i];
+		}
+	}
+
+	// read back what write() wrote for this source, from a buffer (usually
+	// a mapped cache file) rather than a stream: decoding byte by byte through
+	// a stream would be slower than lexing the source again
+	static TokenBuffer read(SourceBuffer source, ByteBuffer in) throws IOException
+	{
+		try
+		{
+			int count = in.getInt();
+			if (count <= 0 || count > source.length() + 1)
+				throw new IOException("Corrupt token stream: " + count + " tokens");
+
+			TokenBuffer buffer = new TokenBuffer(new Lexemes(source), count);
+			int offset = 0;
+			for (int i = 0; i < count; i++)
+			{
+				int kind = in.get() & 0xFF;
+				int distance = readVarInt(in);
+				int length = readVarInt(in);
+				// offsets never go back, and a token ends inside the source;
+				// summed as longs, a corrupt varint cannot wrap around
+				if (kind >= KINDS.length || distance < 0 || length < 0
+						|| (long) offset + distance + length > source.length())
+					throw new IOException("Corrupt token stream at token " + i);
+				offset += distance;
+
+				buffer.kinds[i] = kind;
+				buffer.offsets[i] = offset;
+				buffer.lengths[i] = length;
+				if (kind == Kind.INTEGER.ordinal())
+					buffer.values[i] = readVarInt(in);
+				else if (kind == Kind.FLOAT.ordinal())
+					buffer.values[i] = in.getInt();
+			}
+			buffer.size = count;
+
+			if (buffer.kinds[count - 1] != Kind.EOF.ordinal())
+				throw new IOException("Corrupt token stream: no EOF");
+			return buffer;
+		}
+		catch (BufferUnderflowException e)
+		{
+			throw new IOException("Corrupt token stream: truncated");
+		}
+		catch (RuntimeException e)
+		{
+			// whatever else a corrupt stream breaks is a miss too
+			throw new IOException("Corrupt token stream", e);
+		}
+	}
+
+	private static void writeVarInt(DataOutput out, int value) throws IOException
+	{
+		while ((value & ~0x7F) != 0)
+		{
+			out.writeByte((value & 0x7F) | 0x80);
+			value >>>= 7;
+		}
+		out.writeByte(value);
+	}
+
+	private static int readVarInt(ByteBuffer in) throws IOException
+	{
+		int value = 0;
+		for (int shift = 0; shift < 32; shift += 7)
+		{
+			int b = in.get();
+			value |= (b & 0x7F) << shift;
+			if ((b & 0x80) == 0)
+				return value;
+		}
+		throw new IOException("Corrupt token stream: malformed length");
+	}
+
+	// Re-lex after [offset, offset + removed) of the source was replaced by
+	// inserted. Lexing restarts at the last token that starts before the
+	// edit (it may grow into the edited text) and stops as soon as a new
+	// token starts, past the edit, exactly where an old token started:
+	// from there on the text and the lexer state are the same as before,
+	// so the remaining old tokens are kept and only have their positions
+	// shifted. The lexing work is proportional to the edit, not the file.
+	TokenBuffer relex(int offset, int removed, String inserted)
+	{
+		SourceBuffer source = lexemes.source().edit(offset, removed, inserted);
+		Lexemes edited = new Lexemes(source);
+		int delta = inserted.length() - removed;
+		int editEnd = offset + inserted.length();
+
+		int restart = lastTokenBefore(offset);
+		int begin = restart >= 0 ? offsets[restart] : 0;
+		restart = Math.max(restart, 0);
+
+		TableLexer lexer = new TableLexer(source, edited, begin, source.length());
+		TokenBuffer fresh = new TokenBuffer(edited, INITIAL_CAPACITY);
+
+		int resync = -1;	// old token the new stream meets again
+		Kind kind;
+		do
+		{
+			kind = lexer.scan();
+			if (lexer.tokenOffset() >= editEnd)
+			{
+				resync = tokenAt(lexer.tokenOffset() - delta, restart);
+				if (resync >= 0)
+					break;
+			}
+			fresh.add(kind, lexer.tokenOffset(), lexer.tokenLength(),
+					lexer.tokenValue());
+		} while (kind != Kind.EOF);
+
+		int kept = resync >= 0 ? size - resync : 0;
+		TokenBuffer buffer = new TokenBuffer(edited, restart + fresh.size + kept);
+		buffer.copy(this, 0, restart, 0);
+		buffer.copy(fresh, 0, fresh.size, 0);
+		if (resync >= 0)
+			buffer.copy(this, resync, kept, delta);
+		return buffer;
+	}
+
+	// append count tokens of from, starting at index, shifting their offsets
+	// by delta
+	private void copy(TokenBuffer from, int index, int count, int delta)
+	{
+		System.arraycopy(from.kinds, index, kinds, size, count);
+		System.arraycopy(from.lengths, index, lengths, size, count);
+		System.arraycopy(from.values, index, values, size, count);
+		for (int i = 0; i < count; i++)
+			offsets[size + i] = from.offsets[index + i] + delta;
+		size += count;
+	}
+
+	// index of the last token that starts before offset, or -1
+	private int lastTokenBefore(int offset)
+	{
+		int low = 0;
+		int high = size - 1;
+		while (low <= high)
+		{
+			int middle = (low + high) >>> 1;
+			if (offsets[middle] < offset)
+				low = middle + 1;
+			else
+				high = middle - 1;
+		}
+		return high;
+	}
+
+	// index of the token, at or after from, that starts at offset, or -1
+	private int tokenAt(int offset, int from)
+	{
+		int index = lastTokenBefore(offset) + 1;
+		if (index >= from && index < size && offsets[index] == offset)
+			return index;
+		return -1;
+	}
+
+	public SourceBuffer source()
+	{
+		return lexemes.source();
+	}
+
+	public int size()
+	{
+		return size;
+	}
+
+	// reads past the end see the final EOF token
+	private int clamp(int index)
+	{
+		return index < size ? index : size - 1;
+	}
+
+	public Kind kind(int index)
+	{
+		return KINDS[kinds[clamp(index)]];
+	}
+
+	public boolean is(int index, Kind kind)
+	{
+		return kinds[clamp(index)] == kind.ordinal();
+	}
+
+	public int lineNumber(int index)
+	{
+		return lexemes.lines().lineNumber(offsets[clamp(index)]);
+	}
+
+	public int charPosition(int index)
+	{
+		return lexemes.lines().charPosition(offsets[clamp(index)]);
+	}
+
+	public int offset(int index)
+	{
+		return offsets[clamp(index)];
+	}
+
+	public int length(int index)
+	{
+		return lengths[clamp(index)];
+	}
+
+	public int intValue(int index)
+	{
+		return values[clamp(index)];
+	}
+
+	public float floatValue(int index)
+	{
+		return Float.intBitsToFloat(values[clamp(index)]);
+	}
+
+	public String lexeme(int index)
+	{
+		return token(index).lexeme();
+	}
+
+	// materialize the token at index
+	public Token token(int index)
+	{
+		index = clamp(index);
+		return new Token(KINDS[kinds[index]], lexemes, offsets[index],
+				lengths[index], values[index]);
+	}
+}
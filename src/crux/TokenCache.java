@@ -0,0 +1,218 @@
+package crux;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+// On-disk cache of lexed token streams, so a source that has not changed
+// since the last build is not lexed again.
+// Entries are content-addressed: the file name is the SHA-256 of the source
+// bytes and Compiler.VERSION, so an edited source or a new compiler simply
+// misses. The directory is kept under maxBytes by evicting the least
+// recently used entries; a hit refreshes its entry's modification time.
+// The cache is only an accelerator: any problem reading or writing it is
+// treated as a miss and the source is lexed as usual.
+public class TokenCache
+{
+	// -Dcrux.tokenCache=true turns the cache on, it is off by default so a
+	// compile writes nothing but its output; the entries go to
+	// -Dcrux.tokenCache.dir, java.io.tmpdir/crux-token-cache if not set
+	public static final String ENABLE_PROPERTY = "crux.tokenCache";
+	public static final String DIRECTORY_PROPERTY = "crux.tokenCache.dir";
+	public static final String MAX_BYTES_PROPERTY = "crux.tokenCache.maxBytes";
+
+	private static final long DEFAULT_MAX_BYTES = 256L * 1024 * 1024;
+	private static final String TEMP_SUFFIX = ".tmp";
+	// a temporary file this old was left by a store() that never finished
+	private static final long STALE_TEMP_MILLIS = 60L * 60 * 1000;
+	private static final int MAGIC = 0x43525854;	// "CRXT"
+	private static final String SUFFIX = ".tokens";
+	private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+	private File directory;
+	private long maxBytes;
+
+	public TokenCache(File directory, long maxBytes)
+	{
+		this.directory = directory;
+		this.maxBytes = maxBytes;
+	}
+
+	// the cache configured by the system properties, or null if it is off
+	public static TokenCache fromSystemProperties()
+	{
+		if (!Boolean.getBoolean(ENABLE_PROPERTY))
+			return null;
+
+		String directory = System.getProperty(DIRECTORY_PROPERTY);
+		File dir = directory != null
+				? new File(directory)
+				: new File(System.getProperty("java.io.tmpdir"), "crux-token-cache");
+
+		return new TokenCache(dir, Long.getLong(MAX_BYTES_PROPERTY, DEFAULT_MAX_BYTES));
+	}
+
+	// the cached tokens of source, or null if there are none
+	public TokenBuffer load(SourceBuffer source)
+	{
+		return load(source, entryFor(source));
+	}
+
+	// the same, from the entry entryFor(source) named; hashing the source
+	// once for load() and store() saves reading it all a second time
+	public TokenBuffer load(SourceBuffer source, File entry)
+	{
+		if (!entry.isFile())
+			return null;
+
+		try
+		{
+			ByteBuffer in;
+			RandomAccessFile raf = new RandomAccessFile(entry, "r");
+			try
+			{
+				FileChannel channel = raf.getChannel();
+				in = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+			}
+			finally
+			{
+				raf.close();
+			}
+
+			if (in.remaining() < 8 || in.getInt() != MAGIC || in.getInt() != source.length())
+				throw new IOException("Not a token cache entry: " + entry);
+
+			TokenBuffer tokens = TokenBuffer.read(source, in);
+			entry.setLastModified(System.currentTimeMillis());
+			return tokens;
+		}
+		catch (IOException e)
+		{
+			// unreadable or corrupt, lex again and let store() replace it
+			entry.delete();
+			return null;
+		}
+	}
+
+	public void store(SourceBuffer source, TokenBuffer tokens)
+	{
+		store(source, tokens, entryFor(source));
+	}
+
+	public void store(SourceBuffer source, TokenBuffer tokens, File entry)
+	{
+		if (!directory.isDirectory() && !directory.mkdirs())
+			return;
+
+		try
+		{
+			// write under a temporary name and rename, so a concurrent
+			// build never sees a half written entry
+			File temp = File.createTempFile("tokens", TEMP_SUFFIX, directory);
+			DataOutputStream out = new DataOutputStream(
+					new BufferedOutputStream(new FileOutputStream(temp)));
+			try
+			{
+				out.writeInt(MAGIC);
+				out.writeInt(source.length());
+				tokens.write(out);
+			}
+			finally
+			{
+				out.close();
+			}
+
+			if (!temp.renameTo(entry))
+				temp.delete();
+		}
+		catch (IOException e)
+		{
+			// caching is best effort
+			return;
+		}
+
+		evict();
+	}
+
+	// drop least recently used entries until the cache fits in maxBytes;
+	// only entries count, temporary files are deleted once they are stale
+	private void evict()
+	{
+		File[] files = directory.listFiles();
+		if (files == null)
+			return;
+
+		long now = System.currentTimeMillis();
+		List<File> entries = new ArrayList<File>();
+		long total = 0;
+		for (File file : files)
+		{
+			String name = file.getName();
+			if (name.endsWith(SUFFIX))
+			{
+				entries.add(file);
+				total += file.length();
+			}
+			else if (name.endsWith(TEMP_SUFFIX)
+					&& now - file.lastModified() > STALE_TEMP_MILLIS)
+				file.delete();
+		}
+		if (total <= maxBytes)
+			return;
+
+		Collections.sort(entries, new Comparator<File>() {
+			public int compare(File a, File b)
+			{
+				long difference = a.lastModified() - b.lastModified();
+				return difference < 0 ? -1 : difference > 0 ? 1 : 0;
+			}
+		});
+
+		for (File entry : entries)
+		{
+			if (total <= maxBytes)
+				break;
+
+			long length = entry.length();
+			if (entry.delete())
+				total -= length;
+		}
+	}
+
+	// the entry of source, named by the hash of all of its bytes
+	public File entryFor(SourceBuffer source)
+	{
+		MessageDigest digest;
+		try
+		{
+			digest = MessageDigest.getInstance("SHA-256");
+		}
+		catch (NoSuchAlgorithmException e)
+		{
+			// every Java platform is required to provide SHA-256
+			throw new RuntimeException(e);
+		}
+
+		source.digest(digest);
+		for (int i = 0; i < Compiler.VERSION.length(); i++)
+			digest.update((byte) Compiler.VERSION.charAt(i));
+
+		byte[] hash = digest.digest();
+		StringBuilder name = new StringBuilder(hash.length * 2 + SUFFIX.length());
+		for (byte b : hash)
+			name.append(HEX[(b >> 4) & 0xF]).append(HEX[b & 0xF]);
+
+		return new File(directory, name.append(SUFFIX).toString());
+	}
+}
@@ -1,6 +1,7 @@
  package mips;
 
-import java.util.HashMap;
+import java.io.PrintStream;
+import java.util.Arrays;
 
 import crux.Symbol;
 import types.*;
@@ -11,17 +12,22 @@ public class ActivationRecord
     private ast.FunctionDefinition func;
     private ActivationRecord parent;
     private int stackSize;
-    private HashMap<Symbol, Integer> locals;
-    private HashMap<Symbol, Integer> arguments;
+    // offsets by the slots the parser gave the function's symbols,
+    // NO_OFFSET for a local not declared yet
+    private int[] locals;
+    private int[] arguments;
+    protected PrintStream trace;	// the CodeGen's
+
+    private static final int NO_OFFSET = -1;
     
     
   //  A function's activation record stores bookkeeping information such as the
   // return address and caller frame pointer and contains additional space for 
   // local variables
     
-    public static ActivationRecord newGlobalFrame()
+    public static ActivationRecord newGlobalFrame(PrintStream trace)
     {
-        return new GlobalFrame();
+        return new GlobalFrame(trace);
     }
     
     protected static int numBytes(Type type)
@@ -48,8 +54,9 @@ public class ActivationRecord
         throw new RuntimeException("No size known for " + type);
     }
     
-    protected ActivationRecord()
+    protected ActivationRecord(PrintStream trace)
     {
+        this.trace = trace;
         this.func = null;
         this.parent = null;
         this.stackSize = 0;
@@ -61,15 +68,19 @@ public class ActivationRecord
     {
         this.func = fd;
         this.parent = parent;
+        this.trace = parent.trace;
         this.stackSize = 0;
-        this.locals = new HashMap<Symbol, Integer>();
+        this.locals = new int[8];
+        Arrays.fill(locals, NO_OFFSET);
         
         // map this function's parameters
-        this.arguments = new HashMap<Symbol, Integer>();
+        this.arguments = new int[fd.arguments().size()];
         int offset = 0;
         for (int i=fd.arguments().size()-1; i>=0; --i) {
             Symbol arg = fd.arguments().get(i);
-            arguments.put(arg, offset);
+            // an ErrorSymbol has no slot
+            if (arg.slot() >= 0 && arg.slot() < arguments.length)
+                arguments[arg.slot()] = offset;
             offset += numBytes(arg.type());
         }
     }
@@ -94,36 +105,60 @@ public class ActivationRecord
     	//prog.appendInstruction(var.symbol().type());
     	int space = numBytes(var.symbol().type());
     	stackSize += space;
-    	locals.put(var.symbol(),space);
-    	System.out.println("adding " + var + " to locals");
+    	putLocal(var.symbol(), space);
+    	trace.println("adding " + var + " to locals");
     }
     
     public void add(Program prog, ast.ArrayDeclaration array)
     {
     	int offset = numBytes(array.symbol().type());
     	stackSize += offset;
-    	locals.put(array.symbol(), offset);
+    	putLocal(array.symbol(), offset);
+    }
+
+    private void putLocal(Symbol sym, int offset)
+    {
+    	if (sym.slot() < 0)
+    		return;
+    	if (sym.slot() >= locals.length)
+    	{
+    		int length = locals.length;
+    		locals = Arrays.copyOf(locals, Math.max(length * 2, sym.slot() + 1));
+    		Arrays.fill(locals, length, locals.length, NO_OFFSET);
+    	}
+    	locals[sym.slot()] = offset;
+    }
+
+    private boolean isLocal(Symbol sym)
+    {
+    	return sym.kind() == Symbol.Kind.LOCAL && sym.slot() >= 0
+    			&& sym.slot() < locals.length && locals[sym.slot()] != NO_OFFSET;
+    }
+
+    private boolean isArgument(Symbol sym)
+    {
+    	return sym.kind() == Symbol.Kind.ARGUMENT && sym.slot() >= 0
+    			&& sym.slot() < arguments.length;
     }
     
     public void getAddress(Program prog, String reg, Symbol sym)
     {
     	// need to check in locals first, then arguments, then the parent's 
     	// activation record
-    	if (locals.containsKey(sym))
+    	if (isLocal(sym))
     	{
     		// if this is in local (it is a variable), the address 
     		// is the position of the frame pointer -8 - the offset of the 
     		// variable
     		prog.appendInstruction("subi " + reg + ", $fp, " 
-    						+ (-fixedFrameSize -locals.get(sym)));
+    						+ (-fixedFrameSize -locals[sym.slot()]));
     	}
-    	else if (arguments.containsKey(sym))
+    	else if (isArgument(sym))
     	{
     		// if this is an argument, the address is the position of the frame
     		// pointer, which point to the first argument + the offset of the 
     		// argument
-    		prog.appendInstruction("addi " + reg + ", $fp, " + arguments.get(sym));
-    		System.out.println("in getAddress() found argument: " + sym + " at offset " + arguments.get(sym));
+    		prog.appendInstruction("addi " + reg + ", $fp, " + arguments[sym.slot()]);
     	}
     	else
     		parent.getAddress(prog, reg, sym);
@@ -132,8 +167,9 @@ public class ActivationRecord
 
 class GlobalFrame extends ActivationRecord
 {
-    public GlobalFrame()
+    public GlobalFrame(PrintStream trace)
     {
+        super(trace);
     }
     
     private String mangleDataname(String name)
@@ -147,7 +183,7 @@ class GlobalFrame extends ActivationRecord
     	prog.appendData(mangleDataname(var.symbol().name())
     			+ ": " + "	.space 	" +	numBytes(var.symbol().type()));
     	
-    	System.out.println("adding " + var + " to global .data directive");
+    	trace.println("adding " + var + " to global .data directive");
     }    
     
     @Override
@@ -160,7 +196,7 @@ class GlobalFrame extends ActivationRecord
     @Override
     public void getAddress(Program prog, String reg, Symbol sym)
     {
-    	System.out.println("retriving address " + sym + " in global and store into " + reg);
+    	trace.println("retriving address " + sym + " in global and store into " + reg);
     	prog.appendInstruction("la " + reg + ", " + mangleDataname(sym.name()));
     }
 }
@@ -1,5 +1,8 @@
 package mips;
 
+import java.io.PrintStream;
+import java.util.Map;
+
 import types.BoolType;
 import types.FloatType;
 import types.IntType;
@@ -42,9 +45,12 @@ public class CodeGen implements ast.CommandVisitor {
 
 
 	private StringBuffer errorBuffer = new StringBuffer();
-	private TypeChecker tc;
+	private TypeChecker typeChecker;
+	private Map<Command, Type> types;	// of what is being generated
 	private Program program;
 	private ActivationRecord currentFunction;
+	// what the generator reports as it goes
+	private PrintStream trace = System.out;
 
 	private int regCounter = 0;
 
@@ -67,10 +73,21 @@ public class CodeGen implements ast.CommandVisitor {
 
 	public CodeGen(TypeChecker tc)
 	{
-		this.tc = tc;
+		this.typeChecker = tc;
 		this.program = new Program();
 	}
 
+	// report to trace instead of System.out; call before generating
+	public void setTrace(PrintStream trace)
+	{
+		this.trace = trace;
+	}
+
+	private Type getType(Command node)
+	{
+		return types.get(node);
+	}
+
 	public boolean hasError()
 	{
 		return errorBuffer.length() != 0;
@@ -93,7 +110,8 @@ public class CodeGen implements ast.CommandVisitor {
 	{
 		try 
 		{
-			currentFunction = ActivationRecord.newGlobalFrame();
+			currentFunction = ActivationRecord.newGlobalFrame(trace);
+			types = typeChecker.types();
 			ast.accept(this);
 			
 			return !hasError();
@@ -102,6 +120,35 @@ public class CodeGen implements ast.CommandVisitor {
 		{
 			return false;
 		}
+		finally
+		{
+			types = null;
+		}
+	}
+
+	// generate one top-level declaration of a program whose declarations are
+	// handed over one by one in source order, with the types
+	// TypeChecker.checkDeclaration() found for it; nothing of the declaration
+	// is kept once its code is generated
+	public boolean generateDeclaration(Declaration declaration, Map<Command, Type> types)
+	{
+		try
+		{
+			if (currentFunction == null)
+				currentFunction = ActivationRecord.newGlobalFrame(trace);
+			this.types = types;
+			declaration.accept(this);
+
+			return !hasError();
+		}
+		catch (CodeGenException e)
+		{
+			return false;
+		}
+		finally
+		{
+			this.types = null;
+		}
 	}
 
 	public Program getProgram()
@@ -204,7 +251,7 @@ public class CodeGen implements ast.CommandVisitor {
 		// notifies the current ActivationRecord object, which records an 
 		// offset (from the frame pointer) where the symbol will be stored at 
 		// runtime.
-		System.out.println("VariableDeclaration currently visit: " + node);
+		trace.println("VariableDeclaration currently visit: " + node);
 		currentFunction.add(program, node);
 	}
 
@@ -247,6 +294,10 @@ public class CodeGen implements ast.CommandVisitor {
 			program.appendInstruction("syscall");
 		}
 
+		// back to the global frame, later functions do not see this one's
+		// locals and the function's tree is not kept alive through the frame
+		currentFunction = currentFunction.parent();
+
 	}
 
 	@Override
@@ -259,8 +310,8 @@ public class CodeGen implements ast.CommandVisitor {
 		node.rightSide().accept(this);
 
 		// retrieve left and right sides from stack
-		Type leftType = tc.getType((Command) node.leftSide());
-		Type rightType = tc.getType((Command) node.rightSide());
+		Type leftType = getType((Command) node.leftSide());
+		Type rightType = getType((Command) node.rightSide());
 
 		String rd;
 		String rs;
@@ -312,8 +363,8 @@ public class CodeGen implements ast.CommandVisitor {
 		node.rightSide().accept(this);
 
 		// retrieve left and right sides from stack
-		Type leftType = tc.getType((Command) node.leftSide());
-		Type rightType = tc.getType((Command) node.rightSide());
+		Type leftType = getType((Command) node.leftSide());
+		Type rightType = getType((Command) node.rightSide());
 
 		String rd;
 		String rs;
@@ -365,8 +416,8 @@ public class CodeGen implements ast.CommandVisitor {
 		node.rightSide().accept(this);
 
 		// retrieve left and right sides from stack
-		Type leftType = tc.getType((Command) node.leftSide());
-		Type rightType = tc.getType((Command) node.rightSide());
+		Type leftType = getType((Command) node.leftSide());
+		Type rightType = getType((Command) node.rightSide());
 
 		String rd;
 		String rs;
@@ -419,8 +470,8 @@ public class CodeGen implements ast.CommandVisitor {
 		node.rightSide().accept(this);
 
 		// retrieve left and right sides from stack
-		Type leftType = tc.getType((Command) node.leftSide());
-		Type rightType = tc.getType((Command) node.rightSide());
+		Type leftType = getType((Command) node.leftSide());
+		Type rightType = getType((Command) node.rightSide());
 
 		String rd;
 		String rs;
@@ -473,8 +524,8 @@ public class CodeGen implements ast.CommandVisitor {
 		String rs = makeTempRegister(regCounter);
 		node.rightSide().accept(this);
 
-		Type leftType = tc.getType((Command) node.leftSide());
-		Type rightType = tc.getType((Command) node.rightSide());
+		Type leftType = getType((Command) node.leftSide());
+		Type rightType = getType((Command) node.rightSide());
 
 		// pop left and right sides from stack
 		if (rightType instanceof BoolType
@@ -507,8 +558,8 @@ public class CodeGen implements ast.CommandVisitor {
 		String rs = makeTempRegister(regCounter);
 		node.rightSide().accept(this);
 		
-		Type leftType = tc.getType((Command) node.leftSide());
-		Type rightType = tc.getType((Command) node.rightSide());
+		Type leftType = getType((Command) node.leftSide());
+		Type rightType = getType((Command) node.rightSide());
 
 		// pop left and right sides from stack
 		if (rightType instanceof BoolType
@@ -620,7 +671,7 @@ public class CodeGen implements ast.CommandVisitor {
 		String ra = makeTempRegister(regCounter);
 		
 		// call visit on expression to push the address onto the stack
-		System.out.println("currently visiting Dereference " + node);
+		trace.println("currently visiting Dereference " + node);
 		node.expression().accept(this);
 		
 		// pop the address off the stack (calling program.popInt() has the 
@@ -676,7 +727,7 @@ public class CodeGen implements ast.CommandVisitor {
 		// provided to the callee are no longer needed, and can be popped off
 		// the stack
 		program.appendInstruction("addi $sp, $sp, "
-					+ ActivationRecord.numBytes(tc.getType(node.arguments())));
+					+ ActivationRecord.numBytes(getType(node.arguments())));
 		
 		if (!(node.function().type() instanceof VoidType))
 		{
@@ -2,6 +2,7 @@ package mips;
 
 import java.io.PrintStream;
 import java.util.ArrayList;
+import java.util.List;
 import java.util.Vector;
 import types .*;
 public class Program {
@@ -12,6 +13,7 @@ public class Program {
     private Type floatType = new FloatType();
     
     private int labelCounter;
+    private String labelPrefix = "label.";
     
     public Program()
     {
@@ -24,7 +26,31 @@ public class Program {
     public String newLabel()
     {
         labelCounter++;
-        return "label." + labelCounter;
+        return labelPrefix + labelCounter;
+    }
+    
+    // Labels of a library are made unique to it, so they do not clash with
+    // the labels of the program it is linked into
+    public void setModule(String moduleName)
+    {
+        labelPrefix = "label." + moduleName + ".";
+    }
+    
+    public List<String> codeSegment()
+    {
+        return codeSegment;
+    }
+    
+    public List<String> dataSegment()
+    {
+        return dataSegment;
+    }
+    
+    // Append the data and code of a separately compiled library
+    public void link(List<String> data, List<String> code)
+    {
+        dataSegment.addAll(data);
+        codeSegment.addAll(code);
     }
     
     public String funcLabel(String functionName)
@@ -3,21 +3,36 @@ package types;
 public class ErrorType extends Type {
     
     private String message;
+    private Object[] parts;
     
     public ErrorType(String message)
     {
         this.message = message;
     }
+
+    // a message made of the string values of parts, only built when it is
+    // first asked for: most error types are never printed
+    public ErrorType(Object... parts)
+    {
+        this.parts = parts;
+    }
     
     public String getMessage()
     {
+        if (message == null)
+        {
+            StringBuilder sb = new StringBuilder();
+            for (Object part : parts)
+                sb.append(part);
+            message = sb.toString();
+        }
         return message;
     }
     
     @Override
     public String toString()
     {
-        return "ErrorType(" + message + ")";
+        return "ErrorType(" + getMessage() + ")";
     }
     
     @Override
@@ -28,6 +43,6 @@ public class ErrorType extends Type {
         if (!(that instanceof ErrorType))
             return false;
         
-        return message.equals(((ErrorType)that).message);
+        return getMessage().equals(((ErrorType)that).getMessage());
     }
 }
@@ -1,8 +1,9 @@
 package types;
 
+import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import ast.Addition;
 import ast.AddressOf;
@@ -34,6 +35,9 @@ import ast.StatementList;
 import ast.Subtraction;
 import ast.VariableDeclaration;
 import ast.WhileLoop;
+import crux.Diagnostic;
+import crux.Diagnostics;
+import crux.Module;
 import crux.Symbol;
 import crux.SymbolTable;
 
@@ -42,10 +46,11 @@ public class TypeChecker implements CommandVisitor
 {
 	private HashMap<Command, Type> typeMap;
 
-	// for performing matching arguments when calling functions 
-	private LinkedHashMap<Symbol, Type> functions;
+	// for performing matching arguments when calling functions, the FuncType
+	// of each function by its slot
+	private ArrayList<Type> functions;
 
-	private StringBuffer errorBuffer;
+	private Diagnostics diagnostics;
 
 	// We can return static predefined types in Crux instead of
 	// instantiating new objects 
@@ -71,55 +76,74 @@ public class TypeChecker implements CommandVisitor
 	 * "Array " + arrayName + " has invalid base type " + baseType + "."
 	 */
 
-	private String getHasInvalidArgument(Symbol func, int pos, ErrorType error)
+	// the errors below are ErrorTypes whose messages are only put together
+	// if the report is rendered
+	private ErrorType getHasInvalidArgument(Symbol func, int pos, ErrorType error)
 	{
-		return "Function " + func.name() 
-				+ " has an error in argument in position " 
-				+ pos + ": " + error.getMessage();
+		return new ErrorType("Function ", func.name(),
+				" has an error in argument in position ",
+				pos, ": ", new Message(error));
 	}
 	
-	private String getHasVoidArgumentError(Symbol func, int pos)
+	private ErrorType getHasVoidArgumentError(Symbol func, int pos)
 	{
-		return "Function " + func.name() 
-				+ " has a void argument in position " + pos + ".";
+		return new ErrorType("Function ", func.name(),
+				" has a void argument in position ", pos, ".");
 	}
 	
-	private String getInvalidMainFunctionSignatureError()
+	private ErrorType getInvalidMainFunctionSignatureError()
 	{
-		return "Function main has invalid signature.";
+		return new ErrorType("Function main has invalid signature.");
 	}
 
-	private String getInvalidArrayBaseTypeError(String name, Type base)
+	private ErrorType getInvalidArrayBaseTypeError(String name, Type base)
 	{
-		return  "Array " + name + " has invalid base type " + base + ".";
+		return new ErrorType("Array ", name, " has invalid base type ", base, ".");
 	}
 
-	private String getInvalidVarTypeError(VariableDeclaration var)
+	private ErrorType getInvalidVarTypeError(VariableDeclaration var)
 	{
-		return "Variable " + var.symbol().name()
-				+ " has invalid type " + var.symbol().type() + ".";
+		return new ErrorType("Variable ", var.symbol().name(),
+				" has invalid type ", var.symbol().type(), ".");
 	}
 
-	private String getInvalidIfElseConditionError(Type unexpectedType)
+	private ErrorType getInvalidIfElseConditionError(Type unexpectedType)
 	{
-		return "IfElseBranch requires bool condition not " + unexpectedType + ".";
+		return new ErrorType("IfElseBranch requires bool condition not ", unexpectedType, ".");
 	}
 
-	private String getInvalidWhileConditionError(Type unexpectedType)
+	private ErrorType getInvalidWhileConditionError(Type unexpectedType)
 	{
-		return "WhileLoop requires bool condition not " + unexpectedType + ".";
+		return new ErrorType("WhileLoop requires bool condition not ", unexpectedType, ".");
 	}
 
-	private String getNotMatchingReturn(Symbol funcName, Type expected)
+	private ErrorType getNotMatchingReturn(Symbol funcName, Type expected)
 	{
-		return  "Function " + funcName.name() + " returns " + 
-				funcName.type().toString() 
-				+ " not " + expected.toString() + ".";
+		return new ErrorType("Function ", funcName.name(), " returns ",
+				funcName.type(), " not ", expected, ".");
 	}
 
-	private String getNotAllPathReturnError(String funcName)
+	private ErrorType getNotAllPathReturnError(String funcName)
 	{
-		return "Not all paths in function " + funcName + " have a return.";
+		return new ErrorType("Not all paths in function ", funcName, " have a return.");
+	}
+
+	// the message of an ErrorType as a part of another one's, without the
+	// "ErrorType(...)" around it
+	private static class Message
+	{
+		private ErrorType error;
+
+		Message(ErrorType error)
+		{
+			this.error = error;
+		}
+
+		@Override
+		public String toString()
+		{
+			return error.getMessage();
+		}
 	}
 
 	private TypeList getTypeListFromSymbols(List<Symbol> symbols)
@@ -134,9 +158,9 @@ public class TypeChecker implements CommandVisitor
 	public TypeChecker()
 	{
 		typeMap = new HashMap<Command, Type>();
-		errorBuffer = new StringBuffer();
+		diagnostics = new Diagnostics();
 
-		functions = new LinkedHashMap<Symbol, Type>();
+		functions = new ArrayList<Type>();
 		intType = new IntType();
 		floatType = new FloatType();
 		boolType = new BoolType();
@@ -172,10 +196,9 @@ public class TypeChecker implements CommandVisitor
 		return args;
 	}
 
-	private void reportError(int lineNum, int charPos, String message)
+	private void reportError(int lineNum, int charPos, ErrorType error)
 	{
-		errorBuffer.append("TypeError(" + lineNum + "," + charPos + ")");
-		errorBuffer.append("[" + message + "]" + "\n");
+		diagnostics.add(new Diagnostic(Diagnostic.Kind.TYPE, lineNum, charPos, error));
 	}
 
 	private void put(Command node, Type type)
@@ -183,15 +206,18 @@ public class TypeChecker implements CommandVisitor
 		typeMap.put(node, type);
 
 		if (type instanceof ErrorType) 
-			reportError(node.lineNumber(), node.charPosition(), 
-					((ErrorType)type).getMessage());
+			reportError(node.lineNumber(), node.charPosition(), (ErrorType) type);
 	}
 
 	// helper methods to store functionDefinitions for performing checking on
 	// function calls
 	private void put(Symbol sym, Type args)
 	{
-		functions.put(sym, args);
+		if (sym.kind() != Symbol.Kind.FUNCTION)
+			return;
+		while (functions.size() <= sym.slot())
+			functions.add(null);
+		functions.set(sym.slot(), args);
 	}
 
 	public Type getType(Command node)
@@ -205,14 +231,45 @@ public class TypeChecker implements CommandVisitor
 		return !hasError();
 	}
 
+	// check one top-level declaration of a program whose declarations are
+	// handed over one by one in source order, and return the types of its
+	// nodes; the checker keeps none of them
+	public Map<Command, Type> checkDeclaration(Declaration declaration)
+	{
+		// types() stays what check() found, never null
+		HashMap<Command, Type> types = new HashMap<Command, Type>();
+		HashMap<Command, Type> checked = typeMap;
+		typeMap = types;
+		try
+		{
+			declaration.accept(this);
+		}
+		finally
+		{
+			typeMap = checked;
+		}
+		return types;
+	}
+
+	// the type of every node checked by check()
+	public Map<Command, Type> types()
+	{
+		return typeMap;
+	}
+
 	public boolean hasError()
 	{
-		return errorBuffer.length() != 0;
+		return !diagnostics.isEmpty();
 	}
 	
 	public String errorReport()
 	{
-		return errorBuffer.toString();
+		return diagnostics.render();
+	}
+
+	public Diagnostics diagnostics()
+	{
+		return diagnostics;
 	}
 
 	@Override
@@ -280,7 +337,7 @@ public class TypeChecker implements CommandVisitor
 		// ensure variable's type is valid
 		// A variable cannot be declared with type VoidType		
 		put(node, node.symbol().type() instanceof VoidType 
-				? new ErrorType(getInvalidVarTypeError(node))
+				? getInvalidVarTypeError(node)
 		: node.symbol().type());
 	}
 
@@ -291,8 +348,7 @@ public class TypeChecker implements CommandVisitor
 		Type base = tryResolveBaseType(node.symbol().type());
 
 		put(node, ! (base instanceof VoidType) ? base 
-				: new ErrorType
-				(getInvalidArrayBaseTypeError(node.symbol().name(), base)) );
+				: getInvalidArrayBaseTypeError(node.symbol().name(), base));
 	}
 
 	// helper function to parse the predefined base type of the array
@@ -315,11 +371,9 @@ public class TypeChecker implements CommandVisitor
 			Type type = symbols.get(i).type();
 			
 			if (type instanceof ErrorType)
-					put(node, new ErrorType
-							(this.getHasInvalidArgument(node.function(), i, (ErrorType) type)));
+					put(node, getHasInvalidArgument(node.function(), i, (ErrorType) type));
 			else if (type instanceof VoidType)
-				put(node, new ErrorType
-						(this.getHasVoidArgumentError(node.function(), i)));
+				put(node, getHasVoidArgumentError(node.function(), i));
 		}
 	}
 	
@@ -343,11 +397,10 @@ public class TypeChecker implements CommandVisitor
 		
 		// make sure the return type of the main function is VoidTYpe
 		if (funcSymbol.name().equals("main") && !isVoidType)
-			put(node, new ErrorType(getInvalidMainFunctionSignatureError()));
+			put(node, getInvalidMainFunctionSignatureError());
 
 		if (!isVoidType && !allPathReturn(node))
-			put(node, new ErrorType
-					(getNotAllPathReturnError(funcSymbol.name())));		
+			put(node, getNotAllPathReturnError(funcSymbol.name()));		
 		else
 			visitExpectCorrectReturnType(node);
 	}
@@ -379,7 +432,7 @@ public class TypeChecker implements CommandVisitor
 				if (! (declaredReturnType instanceof VoidType) && 
 						! declaredReturnType.equivalent(expectedReturnType))
 					put((Command) statement,
-							new ErrorType(getNotMatchingReturn(node.symbol(), expectedReturnType)));
+							getNotMatchingReturn(node.symbol(), expectedReturnType));
 			}
 		}
 	}
@@ -536,9 +589,27 @@ public class TypeChecker implements CommandVisitor
 		put(node, declaredReturn.call(expectedReturn));
 	}
 
+	// the FuncType of a function checked so far or imported
+	public FuncType functionType(Symbol function)
+	{
+		return (FuncType) tryResolveFunctionType(function);
+	}
+
+	// the functions of a separately compiled library, after the parser has
+	// given them their slots with Parser.addImport()
+	public void addImport(Module module)
+	{
+		List<Symbol> symbols = module.symbols();
+		for (int i = 0; i < symbols.size(); i++)
+			if (module.signature(i) != null)
+				put(symbols.get(i), module.signature(i));
+	}
+
 	private Type tryResolveFunctionType(Symbol funcName)
 	{
-		return functions.get(funcName);
+		if (funcName.kind() != Symbol.Kind.FUNCTION || funcName.slot() >= functions.size())
+			return null;
+		return functions.get(funcName.slot());
 	}
 
 	@Override
@@ -553,7 +624,7 @@ public class TypeChecker implements CommandVisitor
 		// if type of condition is not BoolType, reports an error 
 		// otherwise, there is no need to associate IfElseBranch with a type 
 		if(!(condition instanceof BoolType))
-			put(node, new ErrorType(getInvalidIfElseConditionError(condition)));
+			put(node, getInvalidIfElseConditionError(condition));
 	}
 
 	@Override
@@ -563,7 +634,7 @@ public class TypeChecker implements CommandVisitor
 		Type condition = getType((Command) node.condition());
 
 		if (!(condition instanceof BoolType))
-			put(node, new ErrorType(getInvalidWhileConditionError(condition)));
+			put(node, getInvalidWhileConditionError(condition));
 
 		node.body().accept(this);
 
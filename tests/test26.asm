@@ -0,0 +1,222 @@
+.data                         # BEGIN Data Segment
+cruxdata.counter: 	.space 	4
+cruxdata.last: 	.space 	4
+cruxdata.table: 	.space	16
+data.newline:      .asciiz       "\n"
+data.floatquery:   .asciiz       "float?"
+data.intquery:     .asciiz       "int?"
+data.trueString:   .asciiz       "true"
+data.falseString:  .asciiz       "false"
+                              # END Data Segment
+.text                         # BEGIN Code Segment
+func.printBool:
+lw $a0, 0($sp)
+beqz $a0, label.printBool.loadFalse
+la $a0, data.trueString
+j label.printBool.join
+label.printBool.loadFalse:
+la $a0, data.falseString
+label.printBool.join:
+li   $v0, 4
+syscall
+jr $ra
+func.printFloat:
+l.s  $f12, 0($sp)
+li   $v0,  2
+syscall
+jr $ra
+func.printInt:
+lw   $a0, 0($sp)
+li   $v0, 1
+syscall
+jr $ra
+func.println:
+la   $a0, data.newline
+li   $v0, 4
+syscall
+jr $ra
+func.readFloat:
+la   $a0, data.floatquery
+li   $v0, 4
+syscall
+li   $v0, 6
+syscall
+mfc1 $v0, $f0
+jr $ra
+func.readInt:
+la   $a0, data.intquery
+li   $v0, 4
+syscall
+li   $v0, 5
+syscall
+jr $ra
+.text                         # BEGIN Crux Program
+main:
+subu $sp, $sp, 8
+sw $fp, 0($sp)
+sw $ra, 4($sp)
+addi $fp, $sp, 8
+subu $sp, $sp, 0
+la $t0, cruxdata.counter
+lw $t1, 0($t0) # retrieve address value in $t0  and stored into $t1
+addi $sp, $sp, -4
+sw $t1, 0($sp)
+add $t1, $0, 3 # $t1 = 3
+addi $sp, $sp, -4
+sw $t1, 0($sp)
+lw $t1, 0($sp)
+addi $sp, $sp, 4
+lw $t0, 0($sp)
+addi $sp, $sp, 4
+sw $t1, ($t0)
+add $t0, $0, 4 # $t0 = 4
+addi $sp, $sp, -4
+sw $t0, 0($sp)
+jal func.bump
+addi $sp, $sp, 4
+lw $t0, 0($sp)
+addi $sp, $sp, 4
+jal func.printInt
+addi $sp, $sp, 4
+jal func.println
+addi $sp, $sp, 0
+la $t0, cruxdata.last
+lw $t1, 0($t0) # retrieve address value in $t0  and stored into $t1
+addi $sp, $sp, -4
+sw $t1, 0($sp)
+jal func.printInt
+addi $sp, $sp, 4
+jal func.println
+addi $sp, $sp, 0
+add $t0, $0, 9 # $t0 = 9
+addi $sp, $sp, -4
+sw $t0, 0($sp)
+jal func.bump
+addi $sp, $sp, 4
+lw $t0, 0($sp)
+addi $sp, $sp, 4
+jal func.isBig
+addi $sp, $sp, 4
+lw $t0, 0($sp)
+addi $sp, $sp, 4
+jal func.printBool
+addi $sp, $sp, 4
+addu $sp, $sp, 0
+lw $ra, 4($sp)
+lw $fp, 0($sp)
+addu $sp, $sp, 8
+jr $ra
+li $v0, 10 
+syscall
+func.bump:
+subu $sp, $sp, 8
+sw $fp, 0($sp)
+sw $ra, 4($sp)
+addi $fp, $sp, 8
+subu $sp, $sp, 0
+la $t0, cruxdata.counter
+lw $t1, 0($t0) # retrieve address value in $t0  and stored into $t1
+addi $sp, $sp, -4
+sw $t1, 0($sp)
+la $t1, cruxdata.counter
+lw $t2, 0($t1) # retrieve address value in $t1  and stored into $t2
+addi $sp, $sp, -4
+sw $t2, 0($sp)
+addi $t1, $fp, 0
+lw $t2, 0($t1) # retrieve address value in $t1  and stored into $t2
+addi $sp, $sp, -4
+sw $t2, 0($sp)
+lw $t1, 0($sp)
+addi $sp, $sp, 4
+lw $t1, 0($sp)
+addi $sp, $sp, 4
+add $t1, $t1, $t1 # $t1 = $t1 + $t1
+addi $sp, $sp, -4
+sw $t1, 0($sp)
+lw $t0, 0($sp)
+addi $sp, $sp, 4
+lw $t0, 0($sp)
+addi $sp, $sp, 4
+sw $t0, ($t0)
+la $t0, cruxdata.last
+lw $t1, 0($t0) # retrieve address value in $t0  and stored into $t1
+addi $sp, $sp, -4
+sw $t1, 0($sp)
+addi $t1, $fp, 0
+lw $t2, 0($t1) # retrieve address value in $t1  and stored into $t2
+addi $sp, $sp, -4
+sw $t2, 0($sp)
+lw $t0, 0($sp)
+addi $sp, $sp, 4
+lw $t0, 0($sp)
+addi $sp, $sp, 4
+sw $t0, ($t0)
+la $t0, cruxdata.counter
+lw $t1, 0($t0) # retrieve address value in $t0  and stored into $t1
+addi $sp, $sp, -4
+sw $t1, 0($sp)
+add $t1, $0, 10 # $t1 = 10
+addi $sp, $sp, -4
+sw $t1, 0($sp)
+lw $t1, 0($sp)
+addi $sp, $sp, 4
+lw $t0, 0($sp)
+addi $sp, $sp, 4
+bgt $t0, $t1, label.test26lib.0
+li $t0, 0
+addi $sp, $sp, -4
+sw $t0, 0($sp)
+label.test26lib.0:
+li $t0, 1
+addi $sp, $sp, -4
+sw $t0, 0($sp)
+lw $t0, 0($sp)
+addi $sp, $sp, 4
+bgtz $t0, label.test26lib.1
+b label.test26lib.2
+label.test26lib.1:
+add $t1, $0, 10 # $t1 = 10
+addi $sp, $sp, -4
+sw $t1, 0($sp)
+b label.test26lib.2
+label.test26lib.2:
+la $t0, cruxdata.counter
+lw $t1, 0($t0) # retrieve address value in $t0  and stored into $t1
+addi $sp, $sp, -4
+sw $t1, 0($sp)
+addu $sp, $sp, 0
+lw $ra, 4($sp)
+lw $fp, 0($sp)
+addu $sp, $sp, 8
+jr $ra
+func.isBig:
+subu $sp, $sp, 8
+sw $fp, 0($sp)
+sw $ra, 4($sp)
+addi $fp, $sp, 8
+subu $sp, $sp, 0
+addi $t0, $fp, 0
+lw $t1, 0($t0) # retrieve address value in $t0  and stored into $t1
+addi $sp, $sp, -4
+sw $t1, 0($sp)
+add $t1, $0, 5 # $t1 = 5
+addi $sp, $sp, -4
+sw $t1, 0($sp)
+lw $t1, 0($sp)
+addi $sp, $sp, 4
+lw $t0, 0($sp)
+addi $sp, $sp, 4
+bgt $t0, $t1, label.test26lib.3
+li $t0, 0
+addi $sp, $sp, -4
+sw $t0, 0($sp)
+label.test26lib.3:
+li $t0, 1
+addi $sp, $sp, -4
+sw $t0, 0($sp)
+addu $sp, $sp, 0
+lw $ra, 4($sp)
+lw $fp, 0($sp)
+addu $sp, $sp, 8
+jr $ra
+                              # END Code Segment